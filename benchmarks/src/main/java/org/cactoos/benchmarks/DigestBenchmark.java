@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.bytes.Sha256DigestOf;
+import org.cactoos.io.FreshBuffers;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.ThreadBuffers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of hashing small inputs with {@link Sha256DigestOf},
+ * reading through fresh and through pooled buffers.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DigestBenchmark {
+
+    /**
+     * Size of the input in bytes.
+     */
+    @Param({"256", "4096"})
+    public int size;
+
+    /**
+     * The input.
+     */
+    private byte[] content;
+
+    /**
+     * The pool of buffers.
+     */
+    private final ThreadBuffers pool = new ThreadBuffers();
+
+    /**
+     * Create the input.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.content = new byte[this.size];
+        new Random(0L).nextBytes(this.content);
+    }
+
+    /**
+     * Hash, allocating a new buffer every time.
+     * @return Hash
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] fresh() throws Exception {
+        return new Sha256DigestOf(
+            new InputOf(this.content), 16 << 10, new FreshBuffers()
+        ).asBytes();
+    }
+
+    /**
+     * Hash, taking the buffer from the pool of the thread.
+     * @return Hash
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] pooled() throws Exception {
+        return new Sha256DigestOf(
+            new InputOf(this.content), 16 << 10, this.pool
+        ).asBytes();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.func.SolidFunc;
+import org.cactoos.func.StickyFunc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link StickyFunc} and {@link SolidFunc}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FuncBenchmark {
+
+    /**
+     * Number of distinct keys.
+     */
+    @Param({"16", "4096"})
+    public int keys;
+
+    /**
+     * Maximum size of the cache, smaller than the number of keys in order
+     * to exercise eviction.
+     */
+    @Param({"1024"})
+    public int max;
+
+    /**
+     * The cached function.
+     */
+    private Func<Integer, Integer> func;
+
+    /**
+     * The cached thread-safe function.
+     */
+    private Func<Integer, Integer> solid;
+
+    /**
+     * The next key to ask for.
+     */
+    private int key;
+
+    /**
+     * Create the function.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.func = new StickyFunc<>(value -> value * value, this.max);
+        this.solid = new SolidFunc<>(value -> value * value, this.max);
+    }
+
+    /**
+     * Call the function with the next key.
+     * @return Result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer stickyFunc() throws Exception {
+        this.key = (this.key + 1) % this.keys;
+        return this.func.apply(this.key);
+    }
+
+    /**
+     * Call the thread-safe function with a random key from many threads.
+     * @return Result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    @Threads(4)
+    public Integer solidFunc() throws Exception {
+        return this.solid.apply(
+            ThreadLocalRandom.current().nextInt(this.keys)
+        );
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ChannelBytes;
+import org.cactoos.io.Copied;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.MappedInput;
+import org.cactoos.io.TeeInput;
+import org.cactoos.scalar.LengthOf;
+import org.cactoos.text.TextOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of file reading and copying through
+ * {@link org.cactoos.bytes.InputAsBytes}, {@link ChannelBytes},
+ * {@link MappedInput}, {@link TeeInput} and {@link Copied}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IoBenchmark {
+
+    /**
+     * Size of the file in bytes.
+     */
+    @Param({"1024", "1048576"})
+    public int size;
+
+    /**
+     * The file to read.
+     */
+    private Path source;
+
+    /**
+     * The file to copy into.
+     */
+    private Path target;
+
+    /**
+     * Create the files.
+     * @throws Exception If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.source = Files.createTempFile("cactoos-source", ".bin");
+        this.target = Files.createTempFile("cactoos-target", ".bin");
+        final byte[] content = new byte[this.size];
+        new Random(0L).nextBytes(content);
+        for (int idx = 0; idx < content.length; ++idx) {
+            content[idx] = (byte) ('a' + (content[idx] & 0x0f));
+        }
+        Files.write(this.source, content);
+    }
+
+    /**
+     * Delete the files.
+     * @throws Exception If fails
+     */
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        Files.deleteIfExists(this.source);
+        Files.deleteIfExists(this.target);
+    }
+
+    /**
+     * Read the whole file into a byte array.
+     * @return Content
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] bytesOf() throws Exception {
+        return new BytesOf(new InputOf(this.source)).asBytes();
+    }
+
+    /**
+     * Read the whole file into a byte array of the exact size.
+     * @return Content
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] channelBytes() throws Exception {
+        return new ChannelBytes(this.source).asBytes();
+    }
+
+    /**
+     * Read the whole file mapped into memory.
+     * @return Length of the content
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Long mappedInput() throws Exception {
+        return new LengthOf(new MappedInput(this.source)).value();
+    }
+
+    /**
+     * Read the whole file into a string.
+     * @return Content
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String textOf() throws Exception {
+        return new TextOf(new BytesOf(new InputOf(this.source))).asString();
+    }
+
+    /**
+     * Copy the file into another one.
+     * @return Length of the copied content
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Long teeInput() throws Exception {
+        return new LengthOf(new TeeInput(this.source, this.target)).value();
+    }
+
+    /**
+     * Copy the file into another one with {@link Copied}.
+     * @return Length of the copied content
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Long copied() throws Exception {
+        return new Copied(this.source, this.target).value();
+    }
+}
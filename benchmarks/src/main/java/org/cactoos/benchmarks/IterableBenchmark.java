@@ -0,0 +1,207 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.HeadOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.Sorted;
+import org.cactoos.iterable.TopOf;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.Folded;
+import org.cactoos.scalar.ItemAt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of {@link Mapped}, {@link Filtered} and {@link Sorted}
+ * iterables.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IterableBenchmark {
+
+    /**
+     * Number of items.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * The items.
+     */
+    private List<Integer> items;
+
+    /**
+     * Create the items.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(0L);
+        this.items = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.items.add(random.nextInt());
+        }
+    }
+
+    /**
+     * Map and filter the items.
+     * @param hole Blackhole
+     */
+    @Benchmark
+    public void mappedFiltered(final Blackhole hole) {
+        for (
+            final Integer item : new Filtered<>(
+                value -> value % 2 == 0,
+                new Mapped<>(value -> value / 3, this.items)
+            )
+        ) {
+            hole.consume(item);
+        }
+    }
+
+    /**
+     * Sort the mapped items.
+     * @param hole Blackhole
+     */
+    @Benchmark
+    public void sortedMapped(final Blackhole hole) {
+        for (
+            final Integer item : new Sorted<>(
+                new Mapped<>(value -> value / 3, this.items)
+            )
+        ) {
+            hole.consume(item);
+        }
+    }
+
+    /**
+     * Take a hundred items of a list by their positions.
+     * @param hole Blackhole
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public void itemAt(final Blackhole hole) throws Exception {
+        final List<Integer> list = new ListOf<>(this.items);
+        final int step = Math.max(1, list.size() / 100);
+        for (int idx = 0; idx < list.size(); idx += step) {
+            hole.consume(new ItemAt<>(idx, list).value());
+        }
+    }
+
+    /**
+     * Take the ten highest items by sorting all of them.
+     * @param hole Blackhole
+     */
+    @Benchmark
+    public void headOfSorted(final Blackhole hole) {
+        for (
+            final Integer item : new HeadOf<>(
+                10, new Sorted<>(Comparator.reverseOrder(), this.items)
+            )
+        ) {
+            hole.consume(item);
+        }
+    }
+
+    /**
+     * Take the ten highest items with a bounded heap.
+     * @param hole Blackhole
+     */
+    @Benchmark
+    public void topOf(final Blackhole hole) {
+        for (final Integer item : new TopOf<>(10, this.items)) {
+            hole.consume(item);
+        }
+    }
+
+    /**
+     * Fold the items mapped through a CPU-heavy function, sequentially.
+     * @return The result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long folded() throws Exception {
+        return new Folded<>(
+            0L,
+            (sum, value) -> sum + value,
+            new Mapped<>(this::heavy, this.items)
+        ).value();
+    }
+
+    /**
+     * Fold the items mapped through a CPU-heavy function, in the
+     * common fork/join pool.
+     * @return The result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long foldedParallel() throws Exception {
+        return new Folded<>(
+            ForkJoinPool.commonPool(),
+            0L,
+            (sum, value) -> sum + value,
+            Long::sum,
+            new Mapped<>(this::heavy, this.items)
+        ).value();
+    }
+
+    /**
+     * Some CPU-heavy function.
+     * @param value The value
+     * @return The hash
+     */
+    private long heavy(final int value) {
+        long hash = value;
+        for (int idx = 0; idx < 64; ++idx) {
+            hash = hash * 31L + (hash >>> 7);
+        }
+        return hash;
+    }
+}
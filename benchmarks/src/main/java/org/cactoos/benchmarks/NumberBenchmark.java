@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.FilteredLongs;
+import org.cactoos.iterable.IterableOfLongs;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.MappedLongs;
+import org.cactoos.number.AvgOf;
+import org.cactoos.number.MaxOf;
+import org.cactoos.number.StatsOf;
+import org.cactoos.number.SumOf;
+import org.cactoos.number.SumOfLongs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link SumOf}, {@link AvgOf}, {@link MaxOf} and
+ * {@link StatsOf}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberBenchmark {
+
+    /**
+     * Number of items.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * The items.
+     */
+    private List<Long> items;
+
+    /**
+     * The same items, unboxed.
+     */
+    private long[] values;
+
+    /**
+     * Create the items.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(0L);
+        this.items = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.items.add((long) random.nextInt());
+        }
+        this.values = new long[this.size];
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.values[idx] = this.items.get(idx);
+        }
+    }
+
+    /**
+     * Sum the items.
+     * @return Sum
+     */
+    @Benchmark
+    public long sumOf() {
+        return new SumOf(this.items).longValue();
+    }
+
+    /**
+     * Average the items.
+     * @return Average
+     */
+    @Benchmark
+    public double avgOf() {
+        return new AvgOf(this.items).doubleValue();
+    }
+
+    /**
+     * Find the highest of the items.
+     * @return Highest
+     */
+    @Benchmark
+    public long maxOf() {
+        return new MaxOf(this.items).longValue();
+    }
+
+    /**
+     * Describe the items in one pass.
+     * @return Some of the statistics
+     */
+    @Benchmark
+    public double statsOf() {
+        final StatsOf stats = new StatsOf(this.items);
+        return stats.max().longValue() + stats.mean().doubleValue()
+            + stats.variance() + stats.quantile(0.99);
+    }
+
+    /**
+     * Map, filter and sum boxed items.
+     * @return Sum
+     */
+    @Benchmark
+    public long boxedPipeline() {
+        return new SumOf(
+            new Filtered<>(
+                value -> value % 3L != 0L,
+                new Mapped<>(value -> value * 7L, new IterableOfLongs(this.values))
+            )
+        ).longValue();
+    }
+
+    /**
+     * Map, filter and sum the same items, unboxed.
+     * @return Sum
+     */
+    @Benchmark
+    public long primitivePipeline() {
+        return new SumOfLongs(
+            new FilteredLongs(
+                value -> value % 3L != 0L,
+                new MappedLongs(value -> value * 7L, this.values)
+            )
+        ).longValue();
+    }
+}
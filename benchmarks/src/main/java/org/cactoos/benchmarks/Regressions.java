@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Comparison of JMH results against a stored baseline.
+ *
+ * <p>Both files must be produced by JMH with {@code -rf csv}. Only primary
+ * scores, the 99th latency percentile and the normalized allocation rate
+ * ({@code gc.alloc.rate.norm}) are compared, since the other secondary
+ * metrics are too noisy. Throughput may not go down and everything else
+ * may not go up by more than the given tolerance.</p>
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar org.cactoos.benchmarks.Regressions \
+ *   baselines/baseline.csv results.csv 10
+ * </pre>
+ *
+ * <p>Params are matched by their names, so both files may have different
+ * sets of them. Results that are not in the baseline can't be compared;
+ * they are reported as warnings. The process exits with a non-zero code
+ * if any regression is found.</p>
+ *
+ * @since 1.0
+ */
+public final class Regressions {
+
+    /**
+     * Baseline file.
+     */
+    private final Path baseline;
+
+    /**
+     * Results file.
+     */
+    private final Path results;
+
+    /**
+     * Tolerance, in percents.
+     */
+    private final double tolerance;
+
+    /**
+     * Ctor.
+     * @param baseline Baseline file
+     * @param results Results file
+     * @param tolerance Tolerance in percents
+     */
+    public Regressions(final Path baseline, final Path results,
+        final double tolerance) {
+        this.baseline = baseline;
+        this.results = results;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Entry point.
+     * @param args Baseline, results and optional tolerance in percents
+     * @throws IOException If fails
+     */
+    public static void main(final String... args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                "Usage: Regressions <baseline.csv> <results.csv> [tolerance%]"
+            );
+        }
+        double tolerance = 10.0;
+        if (args.length > 2) {
+            tolerance = Double.parseDouble(args[2]);
+        }
+        final Regressions regressions = new Regressions(
+            Paths.get(args[0]), Paths.get(args[1]), tolerance
+        );
+        for (final String key : regressions.missing()) {
+            System.err.printf("WARNING: %s has no baseline%n", key);
+        }
+        final List<String> found = regressions.value();
+        for (final String line : found) {
+            System.out.println(line);
+        }
+        if (!found.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Find all regressions.
+     * @return Human readable descriptions of regressions
+     * @throws IOException If fails
+     */
+    public List<String> value() throws IOException {
+        final Map<String, String[]> before = Regressions.scores(this.baseline);
+        final Map<String, String[]> after = Regressions.scores(this.results);
+        final List<String> found = new ArrayList<>(0);
+        for (final Map.Entry<String, String[]> entry : after.entrySet()) {
+            final String[] old = before.get(entry.getKey());
+            if (old == null) {
+                continue;
+            }
+            final double was = Double.parseDouble(old[0]);
+            final double now = Double.parseDouble(entry.getValue()[0]);
+            final double change;
+            if (entry.getValue()[1].startsWith("ops/")) {
+                change = (was - now) * 100.0 / was;
+            } else {
+                change = (now - was) * 100.0 / was;
+            }
+            if (was > 0.0 && change > this.tolerance) {
+                found.add(
+                    String.format(
+                        Locale.ENGLISH,
+                        "%s: %.3f -> %.3f %s (%.1f%% worse)",
+                        entry.getKey(), was, now, entry.getValue()[1], change
+                    )
+                );
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Find all results that have nothing to compare with in the baseline.
+     * @return Benchmarks, modes and params which are not in the baseline
+     * @throws IOException If fails
+     */
+    public List<String> missing() throws IOException {
+        final Map<String, String[]> before = Regressions.scores(this.baseline);
+        final List<String> keys = new ArrayList<>(0);
+        for (final String key : Regressions.scores(this.results).keySet()) {
+            if (!before.containsKey(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Read comparable scores from JMH CSV file.
+     * @param file The file
+     * @return Scores and units by benchmark, mode and named params
+     * @throws IOException If fails
+     */
+    private static Map<String, String[]> scores(final Path file)
+        throws IOException {
+        final List<String> lines = Files.readAllLines(
+            file, StandardCharsets.UTF_8
+        );
+        final Map<String, String[]> scores = new LinkedHashMap<>(
+            lines.size()
+        );
+        final List<String> header = Regressions.cells(lines.get(0));
+        for (final String line : lines.subList(1, lines.size())) {
+            final List<String> cells = Regressions.cells(line);
+            final String name = cells.get(0);
+            if (name.contains(":") && !name.endsWith("gc.alloc.rate.norm")
+                && !name.endsWith("p0.99")) {
+                continue;
+            }
+            final StringBuilder key = new StringBuilder(name)
+                .append(' ').append(cells.get(1));
+            for (int idx = 7; idx < cells.size(); ++idx) {
+                if (!cells.get(idx).isEmpty()) {
+                    key.append(' ')
+                        .append(header.get(idx).replace("Param: ", ""))
+                        .append('=').append(cells.get(idx));
+                }
+            }
+            scores.put(
+                key.toString(),
+                new String[] {cells.get(4), cells.get(6)}
+            );
+        }
+        return scores;
+    }
+
+    /**
+     * Split CSV line into cells.
+     * @param line The line
+     * @return Cells without quotes
+     */
+    private static List<String> cells(final String line) {
+        final List<String> cells = new ArrayList<>(8);
+        final StringBuilder cell = new StringBuilder(line.length());
+        boolean quoted = false;
+        for (final char chr : line.toCharArray()) {
+            if (chr == '"') {
+                quoted = !quoted;
+            } else if (chr == ',' && !quoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(chr);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
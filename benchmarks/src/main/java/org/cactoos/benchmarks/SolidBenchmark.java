@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Solid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of reading already calculated {@link Solid}, compared
+ * to its former implementation with a monitor, {@link LockedSolid}.
+ *
+ * <p>The "null" benchmarks read a scalar whose value is {@code null},
+ * which the former implementation calculated again on every call.</p>
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SolidBenchmark {
+
+    /**
+     * Solid with a value.
+     */
+    private Scalar<String> solid;
+
+    /**
+     * Locked solid with a value.
+     */
+    private Scalar<String> locked;
+
+    /**
+     * Solid with null.
+     */
+    private Scalar<String> empty;
+
+    /**
+     * Locked solid with null.
+     */
+    private Scalar<String> lockedEmpty;
+
+    /**
+     * Create and warm up the scalars.
+     * @throws Exception If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.solid = new Solid<>(() -> "value");
+        this.locked = new LockedSolid<>(() -> "value");
+        this.empty = new Solid<>(() -> null);
+        this.lockedEmpty = new LockedSolid<>(() -> null);
+        this.solid.value();
+        this.locked.value();
+        this.empty.value();
+        this.lockedEmpty.value();
+    }
+
+    /**
+     * Read the solid.
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String solid() throws Exception {
+        return this.solid.value();
+    }
+
+    /**
+     * Read the locked solid.
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String locked() throws Exception {
+        return this.locked.value();
+    }
+
+    /**
+     * Read the solid with null.
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String solidNull() throws Exception {
+        return this.empty.value();
+    }
+
+    /**
+     * Read the locked solid with null.
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String lockedNull() throws Exception {
+        return this.lockedEmpty.value();
+    }
+}
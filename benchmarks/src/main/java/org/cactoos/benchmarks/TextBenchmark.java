@@ -0,0 +1,203 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Text;
+import org.cactoos.iterable.RangeOf;
+import org.cactoos.text.Capitalized;
+import org.cactoos.text.Concatenated;
+import org.cactoos.text.Joined;
+import org.cactoos.text.Lowered;
+import org.cactoos.text.Randomized;
+import org.cactoos.text.Replaced;
+import org.cactoos.text.Split;
+import org.cactoos.text.Sub;
+import org.cactoos.text.TextOf;
+import org.cactoos.text.Trimmed;
+import org.cactoos.text.Upper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of {@link TextOf}, {@link Joined} and {@link Split}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextBenchmark {
+
+    /**
+     * Number of words.
+     */
+    @Param({"16", "1024"})
+    public int words;
+
+    /**
+     * The words.
+     */
+    private List<String> items;
+
+    /**
+     * The words joined with commas.
+     */
+    private String line;
+
+    /**
+     * Create the words.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.items = new ArrayList<>(this.words);
+        for (int idx = 0; idx < this.words; ++idx) {
+            this.items.add(String.format("word%d", idx));
+        }
+        this.line = String.join(",", this.items);
+    }
+
+    /**
+     * Turn a string into a text and back.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String textOf() throws Exception {
+        return new TextOf(this.line).asString();
+    }
+
+    /**
+     * Generate a long random text from a range of characters.
+     * @return The text
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String randomized() throws Exception {
+        return new Randomized(
+            new RangeOf<>('!', '~', ch -> ++ch),
+            () -> 10_000,
+            new Random(0L)
+        ).asString();
+    }
+
+    /**
+     * Join the words.
+     * @return The line
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String joined() throws Exception {
+        return new Joined(",", this.items).asString();
+    }
+
+    /**
+     * Split the line into words and read all of them.
+     * @param hole Blackhole
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public void split(final Blackhole hole) throws Exception {
+        for (final Text word : new Split(this.line, ",")) {
+            hole.consume(word.asString());
+        }
+    }
+
+    /**
+     * Split the line into words and read only the first three.
+     * @param hole Blackhole
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public void splitFirst(final Blackhole hole) throws Exception {
+        final Iterator<Text> tokens = new Split(this.line, ",").iterator();
+        for (int idx = 0; idx < 3; ++idx) {
+            hole.consume(tokens.next().asString());
+        }
+    }
+
+    /**
+     * Replace a literal and a regex in the line.
+     * @return The result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String replaced() throws Exception {
+        return new Replaced(
+            new Replaced(new TextOf(this.line), ",", ";"),
+            "\\d+", "N"
+        ).asString();
+    }
+
+    /**
+     * Pass the line through ten text decorators, most of them
+     * built from strings.
+     * @return The result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String pipeline() throws Exception {
+        return new Capitalized(
+            new Trimmed(
+                new Concatenated(
+                    new Sub(
+                        new Replaced(
+                            new Lowered(
+                                new Upper(this.line)
+                            ),
+                            "word", "w"
+                        ),
+                        1
+                    ),
+                    new TextOf(" "),
+                    new Joined(
+                        new TextOf("|"),
+                        new Split(this.line, ",")
+                    ),
+                    new TextOf("end".toCharArray())
+                )
+            )
+        ).asString();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.experimental.SharedPool;
+import org.cactoos.experimental.ThreadPerTask;
+import org.cactoos.experimental.Threads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of {@link Threads}.
+ *
+ * @since 1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThreadsBenchmark {
+
+    /**
+     * Number of tasks.
+     */
+    @Param({"4", "64"})
+    public int tasks;
+
+    /**
+     * The tasks.
+     */
+    private List<Scalar<Integer>> scalars;
+
+    /**
+     * Create the tasks.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.scalars = new ArrayList<>(this.tasks);
+        for (int idx = 0; idx < this.tasks; ++idx) {
+            final int value = idx;
+            this.scalars.add(() -> value * value);
+        }
+    }
+
+    /**
+     * Run the tasks in a fixed pool of four threads.
+     * @param hole Blackhole
+     */
+    @Benchmark
+    public void threads(final Blackhole hole) {
+        for (final Integer result : new Threads<>(4, this.scalars)) {
+            hole.consume(result);
+        }
+    }
+
+    /**
+     * Run the tasks in the shared pool.
+     * @param hole Blackhole
+     */
+    @Benchmark
+    public void threadsInSharedPool(final Blackhole hole) {
+        for (
+            final Integer result : new Threads<>(new SharedPool(), this.scalars)
+        ) {
+            hole.consume(result);
+        }
+    }
+
+    /**
+     * Run the tasks in a thread per task.
+     * @param hole Blackhole
+     */
+    @Benchmark
+    public void threadsPerTask(final Blackhole hole) {
+        for (
+            final Integer result : new Threads<>(
+                new ThreadPerTask(), this.scalars
+            )
+        ) {
+            hole.consume(result);
+        }
+    }
+}
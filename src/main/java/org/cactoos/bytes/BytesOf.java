@@ -38,6 +38,8 @@ import java.util.List;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
 import org.cactoos.Text;
+import org.cactoos.io.Buffers;
+import org.cactoos.io.ChannelBytes;
 import org.cactoos.io.InputOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.list.ListOf;
@@ -79,7 +81,7 @@ public final class BytesOf implements Bytes {
      * @since 0.13
      */
     public BytesOf(final File file) {
-        this(new InputOf(file));
+        this(new ChannelBytes(file));
     }
 
     /**
@@ -88,7 +90,7 @@ public final class BytesOf implements Bytes {
      * @since 0.13
      */
     public BytesOf(final Path path) {
-        this(new InputOf(path));
+        this(new ChannelBytes(path));
     }
 
     /**
@@ -100,6 +102,17 @@ public final class BytesOf implements Bytes {
         this(new InputAsBytes(input, max));
     }
 
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Max length of the buffer for reading
+     * @param pool The pool to take the buffer from
+     * @since 1.0
+     */
+    public BytesOf(final Input input, final int max, final Buffers pool) {
+        this(new InputAsBytes(input, max, pool));
+    }
+
     /**
      * Ctor.
      * @param rdr Reader
@@ -29,6 +29,8 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
+import org.cactoos.io.Buffers;
+import org.cactoos.io.SharedBuffers;
 
 /**
  * Digest Envelope.
@@ -57,6 +59,11 @@ public abstract class DigestEnvelope implements Bytes {
      */
     private final String algorithm;
 
+    /**
+     * The pool of buffers.
+     */
+    private final Buffers buffers;
+
     /**
      * Ctor.
      * @param input The input
@@ -76,23 +83,46 @@ public abstract class DigestEnvelope implements Bytes {
         final Input input,
         final int max,
         final String algrthm
+    ) {
+        this(input, max, algrthm, new SharedBuffers());
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Buffer size
+     * @param algrthm The algorithm
+     * @param pool The pool to take the buffer from
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DigestEnvelope(
+        final Input input,
+        final int max,
+        final String algrthm,
+        final Buffers pool
     ) {
         this.source = input;
         this.size = max;
         this.algorithm = algrthm;
+        this.buffers = pool;
     }
 
     @Override
     public byte[] asBytes() throws Exception {
         try (InputStream stream = this.source.stream()) {
             final MessageDigest msg = MessageDigest.getInstance(this.algorithm);
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                final int len = stream.read(buf);
-                if (len < 0) {
-                    break;
+            final byte[] buf = this.buffers.array(this.size);
+            try {
+                while (true) {
+                    final int len = stream.read(buf);
+                    if (len < 0) {
+                        break;
+                    }
+                    msg.update(buf, 0, len);
                 }
-                msg.update(buf, 0, len);
+            } finally {
+                this.buffers.release(buf);
             }
             return msg.digest();
         } catch (final NoSuchAlgorithmException ex) {
@@ -27,7 +27,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
+import org.cactoos.io.Buffers;
 import org.cactoos.io.OutputTo;
+import org.cactoos.io.SharedBuffers;
 import org.cactoos.io.TeeInput;
 
 /**
@@ -50,6 +52,11 @@ public final class InputAsBytes implements Bytes {
      */
     private final int size;
 
+    /**
+     * The pool of buffers.
+     */
+    private final Buffers buffers;
+
     /**
      * Ctor.
      * @param input The input
@@ -64,8 +71,19 @@ public final class InputAsBytes implements Bytes {
      * @param max Max length of the buffer for reading
      */
     InputAsBytes(final Input input, final int max) {
+        this(input, max, new SharedBuffers());
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Max length of the buffer for reading
+     * @param pool The pool to take the buffer from
+     */
+    InputAsBytes(final Input input, final int max, final Buffers pool) {
         this.source = input;
         this.size = max;
+        this.buffers = pool;
     }
 
     @Override
@@ -77,11 +95,15 @@ public final class InputAsBytes implements Bytes {
                 new OutputTo(baos)
             ).stream()
         ) {
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                if (stream.read(buf) < 0) {
-                    break;
+            final byte[] buf = this.buffers.array(this.size);
+            try {
+                while (true) {
+                    if (stream.read(buf) < 0) {
+                        break;
+                    }
                 }
+            } finally {
+                this.buffers.release(buf);
             }
             return baos.toByteArray();
         }
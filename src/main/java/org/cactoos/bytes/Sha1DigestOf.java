@@ -24,6 +24,7 @@
 package org.cactoos.bytes;
 
 import org.cactoos.Input;
+import org.cactoos.io.Buffers;
 
 /**
  * SHA-1 checksum calculation of {@link Input}.
@@ -50,4 +51,15 @@ public final class Sha1DigestOf extends DigestEnvelope {
     public Sha1DigestOf(final Input input, final int max) {
         super(input, max, "SHA-1");
     }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Buffer size
+     * @param pool The pool to take the buffer from
+     * @since 1.0
+     */
+    public Sha1DigestOf(final Input input, final int max, final Buffers pool) {
+        super(input, max, "SHA-1", pool);
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Results of tasks executed concurrently, in the order they complete.
+ *
+ * <p>Unlike {@link Threads}, which gives results in the order of tasks,
+ * it gives every result as soon as its task is done, so a slow task
+ * doesn't hold back the results of faster ones:</p>
+ *
+ * <pre> for (String answer : new Completed&lt;&gt;(svc, backends)) {
+ *     // the fastest answer comes first
+ * }</pre>
+ *
+ * <p>The tasks are submitted when iteration starts, every iteration
+ * submits them again. The tasks that aren't done yet are cancelled when
+ * a task fails, when the time is out (then {@link
+ * java.util.concurrent.CancellationException} is thrown), and when the
+ * consumer stops early and closes the iterator, which is
+ * {@link AutoCloseable}:</p>
+ *
+ * <pre> Iterator&lt;String&gt; answers = new Completed&lt;&gt;(svc, backends)
+ *     .iterator();
+ * String first = answers.next();
+ * ((AutoCloseable) answers).close();</pre>
+ *
+ * <p>When a task fails, its unchecked exception or error is thrown as
+ * is, while a checked exception is wrapped into
+ * {@link java.util.concurrent.CompletionException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> The type of task result item
+ * @since 1.0
+ */
+public final class Completed<T> extends IterableEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param tasks The tasks to be executed concurrently
+     */
+    @SafeVarargs
+    public Completed(final ExecutorService exc,
+        final Scalar<? extends T>... tasks) {
+        this(exc, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param tasks The tasks to be executed concurrently
+     */
+    public Completed(final ExecutorService exc,
+        final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(exc, Long.MAX_VALUE, tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param timeout The maximum time to wait for all results
+     * @param tasks The tasks to be executed concurrently
+     */
+    @SafeVarargs
+    public Completed(final ExecutorService exc, final Duration timeout,
+        final Scalar<? extends T>... tasks) {
+        this(exc, timeout, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param timeout The maximum time to wait for all results
+     * @param tasks The tasks to be executed concurrently
+     */
+    public Completed(final ExecutorService exc, final Duration timeout,
+        final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(exc, timeout.toNanos(), tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param nanos The maximum time to wait for all results, in
+     *  nanoseconds, or {@link Long#MAX_VALUE} for no limit
+     * @param tasks The tasks to be executed concurrently
+     */
+    private Completed(final ExecutorService exc, final long nanos,
+        final Iterable<? extends Scalar<? extends T>> tasks) {
+        super(new IterableOf<>(() -> new Completions<>(exc, nanos, tasks)));
+    }
+}
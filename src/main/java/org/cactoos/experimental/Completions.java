@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Awaited;
+import org.cactoos.scalar.CallableOf;
+
+/**
+ * Results of tasks, in the order the tasks complete.
+ *
+ * <p>The tasks are submitted on the first call of {@link #hasNext()} or
+ * {@link #next()}. The tasks that aren't complete yet are cancelled when
+ * the iterator is closed, when a task fails and when the time is
+ * out.</p>
+ *
+ * <p>A failure of a task is thrown as is, if it's unchecked. A checked
+ * exception is wrapped into {@link CompletionException}, even an
+ * {@link InterruptedException} of the task: the interrupt flag of the
+ * caller is set only if the caller itself is interrupted while it waits
+ * for a result.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> The type of task result item
+ * @since 1.0
+ */
+final class Completions<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The maximum time to wait for all results, in nanoseconds.
+     */
+    private final long timeout;
+
+    /**
+     * The tasks.
+     */
+    private final Iterable<? extends Scalar<? extends T>> tasks;
+
+    /**
+     * Submitted tasks.
+     */
+    private final List<Future<T>> futures;
+
+    /**
+     * Completed tasks.
+     */
+    private CompletionService<T> service;
+
+    /**
+     * When the time is out, by {@link System#nanoTime()}.
+     */
+    private long deadline;
+
+    /**
+     * How many results are left.
+     */
+    private int remaining;
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param nanos The maximum time to wait for all results, in
+     *  nanoseconds, or {@link Long#MAX_VALUE} for no limit
+     * @param src The tasks
+     */
+    Completions(final ExecutorService exc, final long nanos,
+        final Iterable<? extends Scalar<? extends T>> src) {
+        this.executor = exc;
+        this.timeout = nanos;
+        this.tasks = src;
+        this.futures = new ArrayList<>(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.started().remaining > 0;
+    }
+
+    @Override
+    @SuppressWarnings(
+        {
+            "PMD.AvoidCatchingGenericException",
+            "PMD.AvoidRethrowingException"
+        }
+    )
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more results of the tasks"
+            );
+        }
+        boolean failed = true;
+        try {
+            final Future<T> done;
+            try {
+                done = this.completed();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(ex);
+            }
+            final T result = new Awaited<>(done).value();
+            failed = false;
+            return result;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException ex) {
+            throw ex;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new CompletionException(ex);
+        } finally {
+            if (failed) {
+                this.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (final Future<T> future : this.futures) {
+            future.cancel(true);
+        }
+        this.remaining = 0;
+    }
+
+    /**
+     * Wait for the next task to complete.
+     * @return The task
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private Future<T> completed() throws InterruptedException {
+        final Future<T> done;
+        if (this.timeout == Long.MAX_VALUE) {
+            done = this.service.take();
+        } else {
+            done = this.service.poll(
+                this.deadline - System.nanoTime(), TimeUnit.NANOSECONDS
+            );
+        }
+        if (done == null) {
+            throw new CancellationException(
+                "The tasks didn't complete in time"
+            );
+        }
+        --this.remaining;
+        return done;
+    }
+
+    /**
+     * Submit the tasks, if it's not done yet.
+     * @return This
+     */
+    private Completions<T> started() {
+        if (this.service == null) {
+            this.service = new ExecutorCompletionService<>(this.executor);
+            if (this.timeout != Long.MAX_VALUE) {
+                this.deadline = System.nanoTime() + this.timeout;
+            }
+            for (final Scalar<? extends T> task : this.tasks) {
+                this.futures.add(this.service.submit(new CallableOf<>(task)));
+                ++this.remaining;
+            }
+        }
+        return this;
+    }
+}
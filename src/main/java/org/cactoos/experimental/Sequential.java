@@ -0,0 +1,247 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service that runs its tasks one at a time, in the order
+ * they were submitted.
+ *
+ * <p>Tasks wait in a queue. When the first one arrives, one worker is
+ * started in the given executor; it runs the queued tasks and ends
+ * when the queue is empty. So the service keeps no thread while it is
+ * idle and doesn't have to be shut down, unlike
+ * {@link Executors#newSingleThreadExecutor()}:</p>
+ *
+ * <pre> ExecutorService svc = new Sequential(
+ *     new ThreadPerTask(factory)
+ * );</pre>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @see ThreadPerTask
+ * @since 1.0
+ */
+public final class Sequential extends AbstractExecutorService {
+
+    /**
+     * Where the worker runs.
+     */
+    private final Executor origin;
+
+    /**
+     * Tasks waiting to run.
+     */
+    private final Queue<Runnable> tasks;
+
+    /**
+     * The lock over the queue and the state.
+     */
+    private final Object lock;
+
+    /**
+     * Is the worker started?
+     */
+    private boolean active;
+
+    /**
+     * Was it shut down?
+     */
+    private boolean down;
+
+    /**
+     * The thread of the worker, if it is running.
+     */
+    private Thread worker;
+
+    /**
+     * Ctor.
+     */
+    public Sequential() {
+        this(Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Ctor.
+     * @param fct The factory of the worker threads
+     */
+    public Sequential(final ThreadFactory fct) {
+        this(new ThreadPerTask(fct));
+    }
+
+    /**
+     * Ctor.
+     * @param exec Where the worker runs
+     */
+    public Sequential(final Executor exec) {
+        super();
+        this.origin = exec;
+        this.tasks = new ArrayDeque<>(0);
+        this.lock = new Object();
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        final boolean start;
+        synchronized (this.lock) {
+            if (this.down) {
+                throw new RejectedExecutionException(
+                    "The executor is shut down"
+                );
+            }
+            this.tasks.add(task);
+            start = !this.active;
+            this.active = true;
+        }
+        if (start) {
+            try {
+                this.origin.execute(this::drain);
+            } catch (final RejectedExecutionException ex) {
+                synchronized (this.lock) {
+                    this.tasks.clear();
+                    this.active = false;
+                    this.lock.notifyAll();
+                }
+                throw ex;
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (this.lock) {
+            this.down = true;
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        synchronized (this.lock) {
+            this.down = true;
+            final List<Runnable> waiting = new ArrayList<>(this.tasks);
+            this.tasks.clear();
+            if (this.worker != null) {
+                this.worker.interrupt();
+            }
+            return waiting;
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        synchronized (this.lock) {
+            return this.down;
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        synchronized (this.lock) {
+            return this.down && !this.active;
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit)
+        throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this.lock) {
+            long left = deadline - System.nanoTime();
+            while (!this.isTerminated() && left > 0L) {
+                TimeUnit.NANOSECONDS.timedWait(this.lock, left);
+                left = deadline - System.nanoTime();
+            }
+            return this.isTerminated();
+        }
+    }
+
+    /**
+     * Run queued tasks until the queue is empty.
+     */
+    private void drain() {
+        synchronized (this.lock) {
+            this.worker = Thread.currentThread();
+        }
+        boolean done = false;
+        try {
+            while (!done) {
+                final Runnable task = this.next();
+                if (task == null) {
+                    done = true;
+                } else {
+                    task.run();
+                }
+            }
+        } finally {
+            if (!done) {
+                this.resume();
+            }
+        }
+    }
+
+    /**
+     * Take the next task, or stop the worker if there is none.
+     * @return The task or NULL
+     */
+    private Runnable next() {
+        synchronized (this.lock) {
+            final Runnable task = this.tasks.poll();
+            if (task == null) {
+                this.active = false;
+                this.worker = null;
+                this.lock.notifyAll();
+            }
+            return task;
+        }
+    }
+
+    /**
+     * Start a new worker for the queued tasks after a task failed in
+     * the old one.
+     */
+    private void resume() {
+        final boolean start;
+        synchronized (this.lock) {
+            this.worker = null;
+            start = !this.tasks.isEmpty();
+            if (!start) {
+                this.active = false;
+                this.lock.notifyAll();
+            }
+        }
+        if (start) {
+            this.origin.execute(this::drain);
+        }
+    }
+}
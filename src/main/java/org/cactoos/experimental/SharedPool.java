@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service backed by one bounded pool of threads, shared by
+ * all its instances in the JVM.
+ *
+ * <p>The pool has up to {@link #SIZE} daemon threads, which are started
+ * on demand and stop after a minute of idleness, so tasks don't pay for
+ * thread creation when they come often, and nothing stays alive when
+ * they don't. Tasks beyond the bound wait in the queue. Like
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()}, the pool can't
+ * be shut down: {@link #shutdown()} and {@link #shutdownNow()} do
+ * nothing, so it is safe to hand it to anything that shuts its executor
+ * down when done.</p>
+ *
+ * <p>Don't use it for tasks that wait for each other: when all threads
+ * are taken by waiting tasks, the ones they wait for never start. Use
+ * {@link ThreadPerTask} for them.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class SharedPool extends AbstractExecutorService {
+
+    /**
+     * The maximum number of threads in the pool.
+     */
+    public static final int SIZE = Math.max(
+        16, Runtime.getRuntime().availableProcessors() * 4
+    );
+
+    /**
+     * The pool.
+     */
+    private static final ThreadPoolExecutor POOL = new ThreadPoolExecutor(
+        SharedPool.SIZE,
+        SharedPool.SIZE,
+        1L,
+        TimeUnit.MINUTES,
+        new LinkedBlockingQueue<>(),
+        task -> {
+            final Thread thread = Executors.defaultThreadFactory()
+                .newThread(task);
+            thread.setDaemon(true);
+            thread.setName(String.format("cactoos-%s", thread.getName()));
+            return thread;
+        }
+    );
+
+    static {
+        SharedPool.POOL.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        SharedPool.POOL.execute(task);
+    }
+
+    @Override
+    public void shutdown() {
+        // The pool is shared, it is never shut down
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return false;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+        return false;
+    }
+}
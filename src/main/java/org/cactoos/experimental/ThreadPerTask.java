@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executor service that starts a new thread for every task.
+ *
+ * <p>Nothing is kept between tasks: a thread ends together with its
+ * task, so the service doesn't have to be shut down and can't leak
+ * threads. It suits fan-out of blocking tasks when threads are cheap
+ * to create, or when tasks must not wait for a free thread. On a JVM
+ * with virtual threads, give it their factory to get a virtual thread
+ * per task:</p>
+ *
+ * <pre> ExecutorService svc = new ThreadPerTask(
+ *     Thread.ofVirtual().factory()
+ * );</pre>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @see SharedPool
+ * @since 1.0
+ */
+public final class ThreadPerTask extends AbstractExecutorService {
+
+    /**
+     * The factory of threads.
+     */
+    private final ThreadFactory factory;
+
+    /**
+     * Threads that are running.
+     */
+    private final Set<Thread> running;
+
+    /**
+     * Was it shut down?
+     */
+    private final AtomicBoolean down;
+
+    /**
+     * Ctor.
+     */
+    public ThreadPerTask() {
+        this(Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Ctor.
+     * @param fct The factory of threads
+     */
+    public ThreadPerTask(final ThreadFactory fct) {
+        super();
+        this.factory = fct;
+        this.running = ConcurrentHashMap.newKeySet();
+        this.down = new AtomicBoolean();
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        if (this.down.get()) {
+            throw new RejectedExecutionException(
+                "The executor is shut down"
+            );
+        }
+        final Thread thread = this.factory.newThread(
+            () -> {
+                try {
+                    task.run();
+                } finally {
+                    this.running.remove(Thread.currentThread());
+                }
+            }
+        );
+        if (thread == null) {
+            throw new RejectedExecutionException(
+                "The factory didn't create a thread"
+            );
+        }
+        this.running.add(thread);
+        thread.start();
+    }
+
+    @Override
+    public void shutdown() {
+        this.down.set(true);
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.down.set(true);
+        for (final Thread thread : this.running) {
+            thread.interrupt();
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.down.get();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.down.get() && this.running.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit)
+        throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (final Thread thread : this.running) {
+            final long left = deadline - System.nanoTime();
+            if (left > 0L) {
+                TimeUnit.NANOSECONDS.timedJoin(thread, left);
+            }
+        }
+        return this.isTerminated();
+    }
+}
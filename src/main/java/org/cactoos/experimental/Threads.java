@@ -41,6 +41,10 @@ import org.cactoos.scalar.CallableOf;
 /**
  * Allows to execute the tasks concurrently, optionally within given timeout.
  *
+ * <p>The results are given in the order of the tasks, after all of them
+ * are complete. Use {@link Completed} to get every result as soon as its
+ * task is complete.</p>
+ *
  * @param <T> The type of task result item.
  * @since 1.0.0
  */
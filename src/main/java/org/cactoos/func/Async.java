@@ -29,6 +29,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import org.cactoos.Func;
 import org.cactoos.Proc;
+import org.cactoos.experimental.Sequential;
 
 /**
  * Func that runs in the background.
@@ -68,11 +69,17 @@ public final class Async<X, Y> implements Func<X, Future<Y>>, Proc<X> {
 
     /**
      * Ctor.
+     *
+     * <p>Calls run one at a time, in the order they were made, in a
+     * thread made by the factory. The thread ends when no calls are
+     * left, so nothing has to be shut down.</p>
+     *
      * @param fnc The func
      * @param fct Factory
+     * @see Sequential
      */
     public Async(final Func<X, Y> fnc, final ThreadFactory fct) {
-        this(fnc, Executors.newSingleThreadExecutor(fct));
+        this(fnc, new Sequential(fct));
     }
 
     /**
@@ -0,0 +1,250 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.cactoos.Scalar;
+
+/**
+ * Limit of concurrent calls, shared by {@link Limited},
+ * {@link org.cactoos.scalar.Limited} and
+ * {@link org.cactoos.proc.LimitedProc}.
+ *
+ * <p>A call that finds the bulkhead full waits for a free place, but
+ * not longer than the given time. Then it's rejected with
+ * {@link RejectedExecutionException}, which may be handled by
+ * {@link FuncWithFallback}:</p>
+ *
+ * <pre>{@code
+ * final Bulkhead bulkhead = new Bulkhead(8, Duration.ofMillis(50L));
+ * final Product product = new FuncWithFallback<>(
+ *     new Limited<>(id -> new SqlProduct().apply(id), bulkhead),
+ *     new Fallback.From<>(
+ *         RejectedExecutionException.class,
+ *         id -> new CachedProduct().apply(id)
+ *     )
+ * ).apply(id);
+ * }</pre>
+ *
+ * <p>The limit may adapt to the latency of the calls, between the given
+ * minimum and maximum (additive increase, multiplicative decrease).
+ * It starts at the maximum. Every call slower than the target latency
+ * cuts the limit by a tenth, and every faster call raises it by one
+ * per limit calls. The limit is fixed when the minimum and the maximum
+ * are the same.</p>
+ *
+ * <p>Objects of this class are thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class Bulkhead {
+
+    /**
+     * The part of the limit that is left after a slow call.
+     */
+    private static final double BACKOFF = 0.9;
+
+    /**
+     * The smallest limit.
+     */
+    private final int min;
+
+    /**
+     * The largest limit.
+     */
+    private final int max;
+
+    /**
+     * Target latency of a call, in nanoseconds.
+     */
+    private final long target;
+
+    /**
+     * The maximum time to wait for a free place, in nanoseconds.
+     */
+    private final long wait;
+
+    /**
+     * The lock.
+     */
+    private final Lock lock;
+
+    /**
+     * A place is free.
+     */
+    private final Condition free;
+
+    /**
+     * Current limit, guarded by the lock.
+     */
+    private double limit;
+
+    /**
+     * Calls in flight, guarded by the lock.
+     */
+    private int inflight;
+
+    /**
+     * Ctor.
+     *
+     * <p>Calls that find the bulkhead full are rejected at once.</p>
+     *
+     * @param permits How many calls may be in flight
+     */
+    public Bulkhead(final int permits) {
+        this(permits, Duration.ZERO);
+    }
+
+    /**
+     * Ctor.
+     * @param permits How many calls may be in flight
+     * @param wait The maximum time to wait for a free place
+     */
+    public Bulkhead(final int permits, final Duration wait) {
+        this(permits, permits, Long.MAX_VALUE, wait.toNanos());
+    }
+
+    /**
+     * Ctor.
+     * @param min The smallest limit
+     * @param max The largest limit
+     * @param target Target latency of a call
+     * @param wait The maximum time to wait for a free place
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Bulkhead(final int min, final int max, final Duration target,
+        final Duration wait) {
+        this(min, max, target.toNanos(), wait.toNanos());
+    }
+
+    /**
+     * Ctor.
+     * @param least The smallest limit
+     * @param most The largest limit
+     * @param latency Target latency of a call, in nanoseconds
+     * @param nanos The maximum time to wait for a free place, in
+     *  nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Bulkhead(final int least, final int most, final long latency,
+        final long nanos) {
+        this.min = least;
+        this.max = most;
+        this.target = latency;
+        this.wait = nanos;
+        this.lock = new ReentrantLock();
+        this.free = this.lock.newCondition();
+        this.limit = most;
+    }
+
+    /**
+     * Make a call within the limit.
+     * @param task The call
+     * @param <T> Type of result
+     * @return The result of the call
+     * @throws Exception If the call fails, or if it is rejected
+     */
+    public <T> T call(final Scalar<? extends T> task) throws Exception {
+        this.enter();
+        final long start = System.nanoTime();
+        try {
+            return task.value();
+        } finally {
+            this.leave(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Current limit.
+     * @return How many calls may be in flight now
+     */
+    public int limit() {
+        this.lock.lock();
+        try {
+            return (int) this.limit;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Take a place, waiting for it if needed.
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private void enter() throws InterruptedException {
+        if (this.min < 1 || this.max < this.min) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The limit must be from %d to %d, which is not valid",
+                    this.min, this.max
+                )
+            );
+        }
+        this.lock.lock();
+        try {
+            long left = this.wait;
+            while (this.inflight >= (int) this.limit) {
+                if (left <= 0L) {
+                    throw new RejectedExecutionException(
+                        String.format(
+                            "The bulkhead is full, %d calls are in flight",
+                            this.inflight
+                        )
+                    );
+                }
+                left = this.free.awaitNanos(left);
+            }
+            ++this.inflight;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Free the place and adapt the limit.
+     * @param latency How long the call took, in nanoseconds
+     */
+    private void leave(final long latency) {
+        this.lock.lock();
+        try {
+            --this.inflight;
+            final int before = (int) this.limit;
+            if (latency > this.target) {
+                this.limit = Math.max(this.min, this.limit * Bulkhead.BACKOFF);
+            } else {
+                this.limit = Math.min(this.max, this.limit + 1.0 / this.limit);
+            }
+            this.free.signal();
+            if ((int) this.limit > before) {
+                this.free.signal();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Bounded cache of function results, split into independently
+ * locked segments.
+ *
+ * <p>A key is always kept in the same segment, chosen by its hash code, and
+ * the maximum size is divided among segments, so the eviction policy
+ * works per segment. Every key is calculated only once, even if many
+ * threads ask for it at the same time, and threads asking for keys
+ * in different segments never wait for each other.</p>
+ *
+ * <p>This class is for internal use only. Use {@link SolidFunc}
+ * or {@link SolidBiFunc} instead.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @since 1.0
+ */
+final class Cache<K, V> implements Func<K, V> {
+
+    /**
+     * Original func.
+     */
+    private final Func<K, V> func;
+
+    /**
+     * Segments, their number is a power of two.
+     */
+    private final List<Segment<K, V>> segments;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param max Maximum number of keys
+     * @param eviction Eviction policy for every segment
+     */
+    Cache(final Func<K, V> fnc, final int max,
+        final Scalar<? extends Eviction<K>> eviction) {
+        this(fnc, max, Cache.stripes(max), eviction);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param max Maximum number of keys
+     * @param stripes Number of segments, must be a power of two
+     * @param eviction Eviction policy for every segment
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Cache(final Func<K, V> fnc, final int max, final int stripes,
+        final Scalar<? extends Eviction<K>> eviction) {
+        this.func = fnc;
+        this.segments = new ArrayList<>(stripes);
+        for (int idx = 0; idx < stripes; ++idx) {
+            int size = max / stripes;
+            if (idx < max % stripes) {
+                size += 1;
+            }
+            this.segments.add(
+                new Segment<>(new Unchecked<>(eviction).value(), size)
+            );
+        }
+    }
+
+    @Override
+    public V apply(final K key) throws Exception {
+        final int hash = Objects.hashCode(key);
+        return this.segments.get(
+            (hash ^ hash >>> 16) & this.segments.size() - 1
+        ).value(key, this.func);
+    }
+
+    /**
+     * Number of segments for the given size: four per processor,
+     * but no fewer than 64 keys in each.
+     * @param max Maximum number of keys
+     * @return Power of two
+     */
+    private static int stripes(final int max) {
+        return Integer.highestOneBit(
+            Math.max(
+                1,
+                Math.min(
+                    Runtime.getRuntime().availableProcessors() << 2,
+                    max >> 6
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import org.cactoos.Func;
+import org.cactoos.scalar.Awaited;
+
+/**
+ * Func that makes one call for all concurrent calls with the same
+ * argument.
+ *
+ * <p>The first caller of an argument calls the original function, while
+ * others asking for the same argument at the same time wait for that
+ * call and get its result, or its exception. Nothing is cached: as soon
+ * as the call is over, the next caller of the argument calls the
+ * function again. Use {@link SolidFunc} to keep the results.</p>
+ *
+ * <p>The original function must not call this one with the same
+ * argument, it would wait for itself forever.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class Coalesced<X, Y> implements Func<X, Y> {
+
+    /**
+     * Replacement of {@code null} argument, not allowed in the table.
+     */
+    private static final Object ABSENT = new Object();
+
+    /**
+     * Original func.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * Calls in progress, by arguments.
+     */
+    private final Map<Object, FutureTask<Y>> flights;
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     */
+    public Coalesced(final Func<? super X, ? extends Y> fnc) {
+        this.func = fnc;
+        this.flights = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        Object slot = input;
+        if (slot == null) {
+            slot = Coalesced.ABSENT;
+        }
+        final FutureTask<Y> mine = new FutureTask<>(
+            () -> this.func.apply(input)
+        );
+        FutureTask<Y> task = this.flights.putIfAbsent(slot, mine);
+        if (task == null) {
+            task = mine;
+            try {
+                mine.run();
+            } finally {
+                this.flights.remove(slot, mine);
+            }
+        }
+        return new Awaited<>(task).value();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+/**
+ * Eviction policy of a bounded cache, used by {@link StickyFunc},
+ * {@link StickyBiFunc}, {@link SolidFunc} and {@link SolidBiFunc}.
+ *
+ * <p>The policy only tracks keys and tells which one to drop when the
+ * cache is full. Every cache, or every segment of a thread-safe cache,
+ * has its own policy instance and never calls it concurrently,
+ * so implementations don't need to be thread-safe.</p>
+ *
+ * @param <K> Type of key
+ * @see Lru
+ * @see Lfu
+ * @since 1.0
+ */
+public interface Eviction<K> {
+
+    /**
+     * A new key was put into the cache.
+     * @param key The key
+     */
+    void added(K key);
+
+    /**
+     * An existing key was read from the cache.
+     * @param key The key
+     */
+    void touched(K key);
+
+    /**
+     * A key was removed from the cache.
+     * @param key The key
+     */
+    void removed(K key);
+
+    /**
+     * The key to remove in order to free space for a new one.
+     * Called only when the cache is not empty.
+     * @return The key
+     */
+    K victim();
+}
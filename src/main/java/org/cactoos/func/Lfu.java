@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Least frequently used {@link Eviction}.
+ *
+ * <p>The key which was read the smallest number of times is evicted first.
+ * Among keys read equally often, the one used least recently goes first.
+ * Adding, touching and removing keys take constant time. Finding the victim
+ * does too, unless the last key of the lowest frequency has just been
+ * removed: then the distinct frequencies are scanned once.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <K> Type of key
+ * @since 1.0
+ */
+public final class Lfu<K> implements Eviction<K> {
+
+    /**
+     * Frequencies of keys.
+     */
+    private final Map<K, Long> counts;
+
+    /**
+     * Keys by frequencies, from the least to the most recently used.
+     */
+    private final Map<Long, Set<K>> buckets;
+
+    /**
+     * The lowest frequency, if known, or zero.
+     */
+    private long lowest;
+
+    /**
+     * Ctor.
+     */
+    public Lfu() {
+        this.counts = new HashMap<>(0);
+        this.buckets = new HashMap<>(0);
+    }
+
+    @Override
+    public void added(final K key) {
+        this.counts.put(key, 1L);
+        this.buckets.computeIfAbsent(1L, cnt -> new LinkedHashSet<>(0))
+            .add(key);
+        this.lowest = 1L;
+    }
+
+    @Override
+    public void touched(final K key) {
+        final Long count = this.counts.get(key);
+        if (count != null) {
+            final boolean last = count == this.lowest
+                && this.buckets.get(count).size() == 1;
+            this.drop(key, count);
+            final long next = count + 1L;
+            this.counts.put(key, next);
+            this.buckets.computeIfAbsent(next, cnt -> new LinkedHashSet<>(0))
+                .add(key);
+            if (last) {
+                this.lowest = next;
+            }
+        }
+    }
+
+    @Override
+    public void removed(final K key) {
+        final Long count = this.counts.remove(key);
+        if (count != null) {
+            this.drop(key, count);
+        }
+    }
+
+    @Override
+    public K victim() {
+        if (this.lowest == 0L) {
+            this.lowest = Long.MAX_VALUE;
+            for (final Long count : this.buckets.keySet()) {
+                this.lowest = Math.min(this.lowest, count);
+            }
+        }
+        return this.buckets.get(this.lowest).iterator().next();
+    }
+
+    /**
+     * Remove the key from the bucket of its frequency.
+     * @param key The key
+     * @param count Its frequency
+     */
+    private void drop(final K key, final long count) {
+        final Set<K> bucket = this.buckets.get(count);
+        bucket.remove(key);
+        if (bucket.isEmpty()) {
+            this.buckets.remove(count);
+            if (count == this.lowest) {
+                this.lowest = 0L;
+            }
+        }
+    }
+}
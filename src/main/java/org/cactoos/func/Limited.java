@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import org.cactoos.Func;
+
+/**
+ * Func that runs within the limit of concurrent calls of a
+ * {@link Bulkhead}.
+ *
+ * <p>The bulkhead may be shared by many functions that call the same
+ * slow resource, so that together they don't make more calls than the
+ * resource can bear.</p>
+ *
+ * <p>Objects of this class are thread-safe, if the origin function
+ * is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class Limited<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * The limit.
+     */
+    private final Bulkhead bulkhead;
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param permits How many calls may be in flight
+     */
+    public Limited(final Func<? super X, ? extends Y> fnc,
+        final int permits) {
+        this(fnc, new Bulkhead(permits));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param bhd The limit
+     */
+    public Limited(final Func<? super X, ? extends Y> fnc,
+        final Bulkhead bhd) {
+        this.func = fnc;
+        this.bulkhead = bhd;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        return this.bulkhead.call(() -> this.func.apply(input));
+    }
+}
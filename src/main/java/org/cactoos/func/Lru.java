@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used {@link Eviction}.
+ *
+ * <p>The key which wasn't read or written for the longest time
+ * is evicted first.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <K> Type of key
+ * @since 1.0
+ */
+public final class Lru<K> implements Eviction<K> {
+
+    /**
+     * Keys in access order, from the least to the most recently used.
+     */
+    private final Map<K, Boolean> keys;
+
+    /**
+     * Ctor.
+     */
+    public Lru() {
+        this.keys = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public void added(final K key) {
+        this.keys.put(key, true);
+    }
+
+    @Override
+    public void touched(final K key) {
+        this.keys.get(key);
+    }
+
+    @Override
+    public void removed(final K key) {
+        this.keys.remove(key);
+    }
+
+    @Override
+    public K victim() {
+        return this.keys.keySet().iterator().next();
+    }
+}
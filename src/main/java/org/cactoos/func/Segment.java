@@ -0,0 +1,195 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.cactoos.Func;
+import org.cactoos.scalar.Awaited;
+
+/**
+ * Segment of a {@link Cache}.
+ *
+ * <p>Values already calculated are read without locking. The lock of the
+ * segment is taken to add a new key, and it is only tried when a key is
+ * read: if another thread holds it, the read is not reported to the
+ * eviction policy. The lock is never held while a value is being
+ * calculated. The first caller asking for a missing key calculates it,
+ * while others asking for the same key wait for that result. Failures
+ * are not cached: all callers waiting for the key get the same exception
+ * and the next one calculates it again.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @since 1.0
+ */
+final class Segment<K, V> {
+
+    /**
+     * Replacement of {@code null} key, not allowed in the table.
+     */
+    private static final Object ABSENT = new Object();
+
+    /**
+     * Calculations of values, finished or in progress, by keys.
+     */
+    private final Map<Object, FutureTask<V>> tasks;
+
+    /**
+     * Eviction policy, guarded by the lock.
+     */
+    private final Eviction<K> eviction;
+
+    /**
+     * Lock of the segment.
+     */
+    private final Lock lock;
+
+    /**
+     * Maximum number of keys.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     * @param eviction Eviction policy
+     * @param max Maximum number of keys
+     */
+    Segment(final Eviction<K> eviction, final int max) {
+        this.tasks = new ConcurrentHashMap<>(0);
+        this.eviction = eviction;
+        this.lock = new ReentrantLock();
+        this.max = max;
+    }
+
+    /**
+     * Get the value of the key, calculating it if necessary.
+     * @param key The key
+     * @param func Function to calculate the value
+     * @return The value
+     * @throws Exception If fails
+     */
+    public V value(final K key, final Func<K, V> func) throws Exception {
+        final V value;
+        if (this.max == 0) {
+            value = func.apply(key);
+        } else {
+            final Object slot = Segment.slot(key);
+            FutureTask<V> task = this.tasks.get(slot);
+            if (task == null) {
+                task = this.task(key, func);
+            } else if (this.lock.tryLock()) {
+                try {
+                    this.eviction.touched(key);
+                } finally {
+                    this.lock.unlock();
+                }
+            }
+            value = this.result(key, task);
+        }
+        return value;
+    }
+
+    /**
+     * Find the calculation of the key, starting it if absent.
+     * @param key The key
+     * @param func Function to calculate the value
+     * @return The calculation
+     */
+    private FutureTask<V> task(final K key, final Func<K, V> func) {
+        final Object slot = Segment.slot(key);
+        FutureTask<V> task;
+        boolean owner = false;
+        this.lock.lock();
+        try {
+            task = this.tasks.get(slot);
+            if (task == null) {
+                task = new FutureTask<>(() -> func.apply(key));
+                owner = true;
+                while (this.tasks.size() >= this.max) {
+                    final K victim = this.eviction.victim();
+                    this.tasks.remove(Segment.slot(victim));
+                    this.eviction.removed(victim);
+                }
+                this.tasks.put(slot, task);
+                this.eviction.added(key);
+            } else {
+                this.eviction.touched(key);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        if (owner) {
+            task.run();
+        }
+        return task;
+    }
+
+    /**
+     * Wait for the result of the calculation.
+     * @param key The key
+     * @param task The calculation
+     * @return The value
+     * @throws Exception If the calculation failed
+     */
+    private V result(final K key, final FutureTask<V> task) throws Exception {
+        boolean failed = true;
+        try {
+            final V value = new Awaited<>(task).value();
+            failed = false;
+            return value;
+        } finally {
+            if (failed && task.isDone()) {
+                this.lock.lock();
+                try {
+                    if (this.tasks.remove(Segment.slot(key), task)) {
+                        this.eviction.removed(key);
+                    }
+                } finally {
+                    this.lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Key as it is kept in the table.
+     * @param key The key
+     * @return The key or a replacement of {@code null}
+     */
+    private static Object slot(final Object key) {
+        Object slot = key;
+        if (slot == null) {
+            slot = Segment.ABSENT;
+        }
+        return slot;
+    }
+}
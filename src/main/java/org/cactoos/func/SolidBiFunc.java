@@ -23,11 +23,18 @@
  */
 package org.cactoos.func;
 
+import java.util.Map;
 import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
 
 /**
  * BiFunc that is thread-safe and sticky.
  *
+ * <p>Works the same way as {@link SolidFunc}, treating the pair
+ * of arguments as the key.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of first input
@@ -35,7 +42,12 @@ import org.cactoos.BiFunc;
  * @param <Z> Type of output
  * @since 0.24
  */
-public final class SolidBiFunc<X, Y, Z> extends BiFuncEnvelope<X, Y, Z> {
+public final class SolidBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
+
+    /**
+     * Cache.
+     */
+    private final Func<Map.Entry<X, Y>, Z> cache;
 
     /**
      * Ctor.
@@ -52,6 +64,26 @@ public final class SolidBiFunc<X, Y, Z> extends BiFuncEnvelope<X, Y, Z> {
      * @since 0.26
      */
     public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
-        super(new SyncBiFunc<>(new StickyBiFunc<>(fnc, max)));
+        this(fnc, max, Lru::new);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Max buffer length
+     * @param eviction Eviction policy
+     * @since 1.0
+     */
+    public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max,
+        final Scalar<? extends Eviction<Map.Entry<X, Y>>> eviction) {
+        this.cache = new Cache<>(
+            args -> fnc.apply(args.getKey(), args.getValue()),
+            max, eviction
+        );
+    }
+
+    @Override
+    public Z apply(final X first, final Y second) throws Exception {
+        return this.cache.apply(new MapEntry<>(first, second));
     }
 }
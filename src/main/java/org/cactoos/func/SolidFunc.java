@@ -24,10 +24,18 @@
 package org.cactoos.func;
 
 import org.cactoos.Func;
+import org.cactoos.Scalar;
 
 /**
  * Func that is thread-safe and sticky.
  *
+ * <p>Cached values are spread among several independently locked
+ * segments, each evicting its least recently used arguments when full,
+ * unless another {@link Eviction} is given. A value is calculated only
+ * once, even if many threads ask for it at the same time; the lock is
+ * never held during the calculation, so threads asking for
+ * different arguments don't wait for each other.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of input
@@ -56,7 +64,19 @@ public final class SolidFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public SolidFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new SyncFunc<>(new StickyFunc<>(fnc, max));
+        this(fnc, max, Lru::new);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param max Max caching buffer length
+     * @param eviction Eviction policy
+     * @since 1.0
+     */
+    public SolidFunc(final Func<X, Y> fnc, final int max,
+        final Scalar<? extends Eviction<X>> eviction) {
+        this.func = new Cache<>(fnc, max, eviction);
     }
 
     @Override
@@ -23,9 +23,10 @@
  */
 package org.cactoos.func;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
 import org.cactoos.map.MapEntry;
 import org.cactoos.scalar.Sticky;
 
@@ -34,10 +35,12 @@ import org.cactoos.scalar.Sticky;
  * and doesn't recalculate again.
  *
  * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link SyncBiFunc}.</p>
+ * recommended to use {@link SolidBiFunc} when it is called
+ * from many threads.</p>
  *
  * <p>This {@link BiFunc} decorator technically is an in-memory
- * cache.</p>
+ * cache. When it is full, the least recently used pair of arguments
+ * is evicted, unless another {@link Eviction} is given.</p>
  *
  * <p>There is no thread-safety guarantee.
  * @param <X> Type of input
@@ -49,19 +52,9 @@ import org.cactoos.scalar.Sticky;
 public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
 
     /**
-     * Original func.
+     * Sticky func of pairs of arguments.
      */
-    private final BiFunc<X, Y, Z> func;
-
-    /**
-     * Cache.
-     */
-    private final Map<Map.Entry<X, Y>, Z> cache;
-
-    /**
-     * Maximum cache size.
-     */
-    private final int size;
+    private final Func<Map.Entry<X, Y>, Z> func;
 
     /**
      * Ctor.
@@ -78,21 +71,27 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
      * @since 0.26
      */
     public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
-        this.func = fnc;
-        this.cache = new LinkedHashMap<>(0);
-        this.size = max;
+        this(fnc, max, Lru::new);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum buffer size
+     * @param eviction Eviction policy
+     * @since 1.0
+     */
+    public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max,
+        final Scalar<? extends Eviction<Map.Entry<X, Y>>> eviction) {
+        this.func = new StickyFunc<>(
+            args -> fnc.apply(args.getKey(), args.getValue()),
+            max, eviction
+        );
     }
 
     @Override
     public Z apply(final X first, final Y second) throws Exception {
-        final Map.Entry<X, Y> key = new MapEntry<>(first, second);
-        while (this.cache.size() > this.size) {
-            this.cache.remove(this.cache.keySet().iterator().next());
-        }
-        if (!this.cache.containsKey(key)) {
-            this.cache.put(key, this.func.apply(first, second));
-        }
-        return this.cache.get(key);
+        return this.func.apply(new MapEntry<>(first, second));
     }
 
 }
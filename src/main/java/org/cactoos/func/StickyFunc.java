@@ -23,19 +23,24 @@
  */
 package org.cactoos.func;
 
-import org.cactoos.BiFunc;
+import java.util.HashMap;
+import java.util.Map;
 import org.cactoos.Func;
+import org.cactoos.Scalar;
 import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Func that caches previously calculated values and doesn't
  * recalculate again.
  *
  * <p>This {@link Func} decorator technically is an in-memory
- * cache.</p>
+ * cache. When it is full, the least recently used argument
+ * is evicted, unless another {@link Eviction} is given.</p>
  *
  * <p>Pay attention that this class is not thread-safe. It is highly
- * recommended to always decorate it with {@link SyncFunc}.</p>
+ * recommended to use {@link SolidFunc} when it is called
+ * from many threads.</p>
  *
  * <p>There is no thread-safety guarantee.
  *
@@ -47,9 +52,24 @@ import org.cactoos.scalar.Sticky;
 public final class StickyFunc<X, Y> implements Func<X, Y> {
 
     /**
-     * Sticky bi-func.
+     * Original func.
      */
-    private final BiFunc<X, Boolean, Y> func;
+    private final Func<X, Y> func;
+
+    /**
+     * Cache.
+     */
+    private final Map<X, Y> cache;
+
+    /**
+     * Eviction policy.
+     */
+    private final Eviction<X> eviction;
+
+    /**
+     * Maximum cache size.
+     */
+    private final int size;
 
     /**
      * Ctor.
@@ -66,15 +86,43 @@ public final class StickyFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public StickyFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new StickyBiFunc<>(
-            (first, second) -> fnc.apply(first),
-            max
-        );
+        this(fnc, max, Lru::new);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum cache size
+     * @param eviction Eviction policy
+     * @since 1.0
+     */
+    public StickyFunc(final Func<X, Y> fnc, final int max,
+        final Scalar<? extends Eviction<X>> eviction) {
+        this.func = fnc;
+        this.cache = new HashMap<>(0);
+        this.eviction = new Unchecked<>(eviction).value();
+        this.size = max;
     }
 
     @Override
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input, true);
+        final Y result;
+        if (this.cache.containsKey(input)) {
+            this.eviction.touched(input);
+            result = this.cache.get(input);
+        } else {
+            result = this.func.apply(input);
+            if (this.size > 0) {
+                while (this.cache.size() >= this.size) {
+                    final X victim = this.eviction.victim();
+                    this.cache.remove(victim);
+                    this.eviction.removed(victim);
+                }
+                this.cache.put(input, result);
+                this.eviction.added(input);
+            }
+        }
+        return result;
     }
 
 }
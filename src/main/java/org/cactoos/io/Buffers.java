@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Pool of buffers for reading and writing.
+ *
+ * <p>A buffer taken from the pool must be given back with
+ * {@code release()} once it is no longer used, and must not be used
+ * after that. A buffer which is not given back is simply collected
+ * as garbage.</p>
+ *
+ * @see ThreadBuffers
+ * @see FreshBuffers
+ * @since 1.0
+ */
+public interface Buffers {
+
+    /**
+     * Take an array.
+     * @param size Length of the array
+     * @return Array of exactly that length, with any content
+     */
+    byte[] array(int size);
+
+    /**
+     * Give an array back.
+     * @param array The array
+     */
+    void release(byte[] array);
+
+    /**
+     * Take a byte buffer.
+     * @param size Capacity of the buffer
+     * @return Cleared buffer of exactly that capacity, with any content
+     */
+    ByteBuffer buffer(int size);
+
+    /**
+     * Give a byte buffer back.
+     * @param buffer The buffer
+     */
+    void release(ByteBuffer buffer);
+
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * Input stream reading {@link ByteBuffer}s one after another.
+ *
+ * <p>Bytes between the position and the limit of every buffer are read,
+ * moving its position.</p>
+ *
+ * <p>This class is for internal use only. Use {@link MappedInput}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ByteBuffersInputStream extends InputStream {
+
+    /**
+     * Buffers to read.
+     */
+    private final Iterator<ByteBuffer> buffers;
+
+    /**
+     * Buffer being read now.
+     */
+    private ByteBuffer current;
+
+    /**
+     * Ctor.
+     * @param buffers Buffers to read
+     */
+    ByteBuffersInputStream(final Iterator<ByteBuffer> buffers) {
+        super();
+        this.buffers = buffers;
+        this.current = ByteBuffer.allocate(0);
+    }
+
+    @Override
+    public int read() {
+        final int result;
+        if (this.exhausted()) {
+            result = -1;
+        } else {
+            result = this.current.get() & 0xff;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len) {
+        final int result;
+        if (len == 0) {
+            result = 0;
+        } else if (this.exhausted()) {
+            result = -1;
+        } else {
+            result = Math.min(len, this.current.remaining());
+            this.current.get(buf, off, result);
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(final long num) {
+        final long result;
+        if (num <= 0L || this.exhausted()) {
+            result = 0L;
+        } else {
+            result = Math.min(num, this.current.remaining());
+            this.current.position(this.current.position() + (int) result);
+        }
+        return result;
+    }
+
+    @Override
+    public int available() {
+        return this.current.remaining();
+    }
+
+    /**
+     * Move to the next buffer with bytes left, if necessary.
+     * @return TRUE if there is nothing more to read
+     */
+    private boolean exhausted() {
+        while (!this.current.hasRemaining() && this.buffers.hasNext()) {
+            this.current = this.buffers.next();
+        }
+        return !this.current.hasRemaining();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.cactoos.Bytes;
+
+/**
+ * Content of a file, read through a {@link FileChannel}.
+ *
+ * <p>The size of the file is known before reading, so the content is read
+ * straight into an array of exactly that size, without intermediate
+ * buffers and copies. The file is read until its end, not until its
+ * reported size: if the file grows while being read, or reports no size
+ * at all, like the files of {@code /proc}, the array grows as needed.
+ * In the end the array is trimmed to what was actually read.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ChannelBytes implements Bytes {
+
+    /**
+     * The smallest growth of the array, in bytes.
+     */
+    private static final int CHUNK = 8192;
+
+    /**
+     * The path.
+     */
+    private final Path path;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public ChannelBytes(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param path The path
+     */
+    public ChannelBytes(final Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public byte[] asBytes() throws IOException {
+        try (FileChannel channel = FileChannel.open(
+            this.path, StandardOpenOption.READ
+        )) {
+            ByteBuffer buf = ByteBuffer.wrap(
+                new byte[ChannelBytes.length(channel.size())]
+            );
+            final ByteBuffer probe = ByteBuffer.allocate(1);
+            boolean more = true;
+            while (more) {
+                if (buf.hasRemaining()) {
+                    more = channel.read(buf) >= 0;
+                } else {
+                    probe.clear();
+                    more = channel.read(probe) > 0;
+                    if (more) {
+                        buf = ChannelBytes.grown(buf, channel.size());
+                        buf.put(probe.get(0));
+                    }
+                }
+            }
+            final byte[] array = buf.array();
+            final byte[] result;
+            if (buf.position() == array.length) {
+                result = array;
+            } else {
+                result = Arrays.copyOf(array, buf.position());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Larger buffer with the same content.
+     * @param buf The full buffer
+     * @param size Size of the file as reported now
+     * @return The buffer, positioned after the content
+     * @throws IOException If the file is too big
+     */
+    private static ByteBuffer grown(final ByteBuffer buf, final long size)
+        throws IOException {
+        final ByteBuffer grown = ByteBuffer.wrap(
+            Arrays.copyOf(
+                buf.array(),
+                ChannelBytes.length(
+                    Math.max(
+                        size,
+                        (long) buf.capacity()
+                            + Math.max(buf.capacity(), ChannelBytes.CHUNK)
+                    )
+                )
+            )
+        );
+        grown.position(buf.position());
+        return grown;
+    }
+
+    /**
+     * Length of array for the size.
+     * @param size Size of the file
+     * @return Length
+     * @throws IOException If the file is too big
+     */
+    private static int length(final long size) throws IOException {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IOException(
+                String.format(
+                    "The file of %d bytes is too big for an array", size
+                )
+            );
+        }
+        return (int) size;
+    }
+}
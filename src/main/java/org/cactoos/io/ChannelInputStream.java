@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+/**
+ * Stream that reads a {@link FileChannel} and keeps it at hand.
+ *
+ * <p>{@link Transfer} moves the bytes of this stream with
+ * {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)}, just like the bytes of a
+ * {@link java.io.FileInputStream}.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ChannelInputStream extends InputStream {
+
+    /**
+     * The channel.
+     */
+    private final FileChannel source;
+
+    /**
+     * The stream of the channel.
+     */
+    private final InputStream origin;
+
+    /**
+     * Ctor.
+     * @param channel The channel
+     */
+    ChannelInputStream(final FileChannel channel) {
+        super();
+        this.source = channel;
+        this.origin = Channels.newInputStream(channel);
+    }
+
+    /**
+     * The channel this stream reads.
+     * @return The channel
+     */
+    FileChannel channel() {
+        return this.source;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return this.origin.read();
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        return this.origin.read(buf, off, len);
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        return this.origin.skip(num);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.origin.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import org.cactoos.Input;
+import org.cactoos.Output;
+import org.cactoos.Scalar;
+
+/**
+ * Copy of all bytes from an input to an output.
+ *
+ * <p>The value is the number of bytes copied. Both streams are
+ * closed afterwards.</p>
+ *
+ * <p>When the input or the output is a file, the bytes are moved by the
+ * operating system with {@link java.nio.channels.FileChannel#transferTo(
+ * long, long, java.nio.channels.WritableByteChannel)} or
+ * {@link java.nio.channels.FileChannel#transferFrom(
+ * java.nio.channels.ReadableByteChannel, long, long)}, without passing
+ * through the Java heap. Otherwise they are copied through a buffer:</p>
+ *
+ * <pre>{@code
+ * final long bytes = new Copied(
+ *     new File("/tmp/a.bin"), new File("/tmp/b.bin")
+ * ).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Copied implements Scalar<Long> {
+
+    /**
+     * The source.
+     */
+    private final Input source;
+
+    /**
+     * The target.
+     */
+    private final Output target;
+
+    /**
+     * Ctor.
+     * @param input The source
+     * @param output The target
+     */
+    public Copied(final Path input, final Path output) {
+        this(new InputOf(input), new OutputTo(output));
+    }
+
+    /**
+     * Ctor.
+     * @param input The source
+     * @param output The target
+     */
+    public Copied(final File input, final File output) {
+        this(new InputOf(input), new OutputTo(output));
+    }
+
+    /**
+     * Ctor.
+     * @param input The source
+     * @param output The target
+     */
+    public Copied(final Input input, final Output output) {
+        this.source = input;
+        this.target = output;
+    }
+
+    @Override
+    public Long value() throws Exception {
+        try (InputStream input = this.source.stream();
+            OutputStream output = this.target.stream()) {
+            return new Transfer(input, output).copy(Long.MAX_VALUE);
+        }
+    }
+}
@@ -24,16 +24,39 @@
 package org.cactoos.io;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.util.Iterator;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * Files and folders in a directory.
  *
+ * <p>The directory is walked depth first, while being iterated, and
+ * only the entries of the directories on the way to the current path are
+ * kept in memory, so the iteration starts right away and a tree of
+ * any size can be walked. The directory itself is the first path.
+ * Symbolic links are not followed.</p>
+ *
+ * <p>The walk can be limited in depth, filtered, and pruned:</p>
+ *
+ * <pre>{@code
+ * new Directory(
+ *     path, Integer.MAX_VALUE,
+ *     file -> file.toString().endsWith(".java"),
+ *     dir -> dir.endsWith(".git")
+ * );
+ * }</pre>
+ *
+ * <p>Its spliterator can be split, so a parallel stream walks different
+ * subtrees in different threads of the fork/join pool:</p>
+ *
+ * <pre>{@code
+ * StreamSupport.stream(new Directory(path).spliterator(), true)
+ *     .forEach(file -> ...);
+ * }</pre>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.21
@@ -45,6 +68,21 @@ public final class Directory implements Iterable<Path> {
      */
     private final Path dir;
 
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Which paths to iterate.
+     */
+    private final PathMatcher filter;
+
+    /**
+     * Which directories to skip with all their content.
+     */
+    private final PathMatcher prune;
+
     /**
      * Ctor.
      * @param file File as a path to directory.
@@ -58,16 +96,55 @@ public final class Directory implements Iterable<Path> {
      * @param path Path of the dir
      */
     public Directory(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Maximum depth, where zero is the directory itself
+     * @since 1.0
+     */
+    public Directory(final Path path, final int max) {
+        this(path, max, file -> true, dir -> false);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param glob Glob pattern of paths to iterate, relative to the dir,
+     *  for example {@code "**}{@code /*.java"}
+     * @since 1.0
+     */
+    public Directory(final Path path, final String glob) {
+        this(path, Integer.MAX_VALUE, new Glob(path, glob), dir -> false);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Maximum depth, where zero is the directory itself
+     * @param accept Which paths to iterate
+     * @param skip Which directories to skip with all their content
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Directory(final Path path, final int max, final PathMatcher accept,
+        final PathMatcher skip) {
         this.dir = path;
+        this.depth = max;
+        this.filter = accept;
+        this.prune = skip;
     }
 
     @Override
     public Iterator<Path> iterator() {
-        try (Stream<Path> files = Files.walk(this.dir)) {
-            return files.collect(Collectors.toList()).iterator();
-        } catch (final IOException ex) {
-            throw new IllegalStateException(ex);
-        }
+        return Spliterators.iterator(this.spliterator());
+    }
+
+    @Override
+    public Spliterator<Path> spliterator() {
+        return new DirectoryWalk(this.dir, this.depth, this.filter, this.prune);
     }
 
 }
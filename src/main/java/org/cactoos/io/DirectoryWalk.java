@@ -0,0 +1,241 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Walk of a directory tree, depth first.
+ *
+ * <p>Directories are listed only when the walk reaches them, and each
+ * of them is closed right after it's listed, so the walk keeps in memory
+ * only the entries of the directories on the way from the root to the
+ * current path, never the whole tree.</p>
+ *
+ * <p>The walk can be split: the remaining entries of the outermost
+ * directory that has more than one of them are divided between two
+ * walks, so a parallel stream walks different subtrees in different
+ * threads. A walk that hasn't started yet lists its root first, so the
+ * very first split already divides the entries of the root.</p>
+ *
+ * <p>Symbolic links are not followed.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class DirectoryWalk implements Spliterator<Path> {
+
+    /**
+     * The root, if it's not yet visited, or NULL.
+     */
+    private Path root;
+
+    /**
+     * Whether the root is already checked and listed.
+     */
+    private boolean opened;
+
+    /**
+     * Entries not yet visited, of each directory on the way to the
+     * current path, the outermost first.
+     */
+    private final Deque<Deque<Path>> levels;
+
+    /**
+     * Depth of the directory which entries are the first level.
+     */
+    private final int base;
+
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Which paths to visit.
+     */
+    private final PathMatcher filter;
+
+    /**
+     * Which directories to skip with all their content.
+     */
+    private final PathMatcher prune;
+
+    /**
+     * Ctor.
+     * @param dir The root
+     * @param max Maximum depth
+     * @param accept Which paths to visit
+     * @param skip Which directories to skip with all their content
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    DirectoryWalk(final Path dir, final int max, final PathMatcher accept,
+        final PathMatcher skip) {
+        this(dir, new ArrayDeque<>(0), 0, max, accept, skip);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The root, or NULL
+     * @param entries Entries not yet visited
+     * @param start Depth of the directory which entries are the first level
+     * @param max Maximum depth
+     * @param accept Which paths to visit
+     * @param skip Which directories to skip with all their content
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private DirectoryWalk(final Path dir, final Deque<Deque<Path>> entries,
+        final int start, final int max, final PathMatcher accept,
+        final PathMatcher skip) {
+        this.root = dir;
+        this.levels = entries;
+        this.base = start;
+        this.depth = max;
+        this.filter = accept;
+        this.prune = skip;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Path> action) {
+        boolean found = false;
+        while (!found) {
+            final Path next;
+            if (this.root == null) {
+                while (!this.levels.isEmpty()
+                    && this.levels.peekLast().isEmpty()) {
+                    this.levels.removeLast();
+                }
+                if (this.levels.isEmpty()) {
+                    break;
+                }
+                next = this.levels.peekLast().poll();
+                this.descend(next, this.base + this.levels.size());
+            } else {
+                this.open();
+                next = this.root;
+                this.root = null;
+            }
+            if (this.filter.matches(next)) {
+                action.accept(next);
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Spliterator<Path> trySplit() {
+        if (this.root != null) {
+            this.open();
+        }
+        Spliterator<Path> split = null;
+        int level = 0;
+        for (final Deque<Path> entries : this.levels) {
+            if (entries.size() > 1) {
+                final Deque<Path> half = new ArrayDeque<>(entries.size() / 2);
+                for (int idx = entries.size() / 2; idx > 0; --idx) {
+                    half.addFirst(entries.pollLast());
+                }
+                final Deque<Deque<Path>> rest = new ArrayDeque<>(1);
+                rest.add(half);
+                split = new DirectoryWalk(
+                    null, rest, this.base + level,
+                    this.depth, this.filter, this.prune
+                );
+                break;
+            }
+            ++level;
+        }
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.DISTINCT | Spliterator.NONNULL;
+    }
+
+    /**
+     * Check the root and list it, if it's not listed yet.
+     */
+    private void open() {
+        if (!this.opened) {
+            if (!Files.exists(this.root, LinkOption.NOFOLLOW_LINKS)) {
+                throw new UncheckedIOException(
+                    new NoSuchFileException(this.root.toString())
+                );
+            }
+            this.descend(this.root, this.base);
+            this.opened = true;
+        }
+    }
+
+    /**
+     * List a directory as the next level, if the walk goes into it.
+     * @param dir The path
+     * @param level Depth of the path
+     */
+    private void descend(final Path dir, final int level) {
+        if (level < this.depth
+            && Files.isDirectory(dir, LinkOption.NOFOLLOW_LINKS)
+            && !this.prune.matches(dir)) {
+            this.levels.addLast(this.listed(dir));
+        }
+    }
+
+    /**
+     * Entries of a directory.
+     * @param dir The directory
+     * @return Entries
+     */
+    private Deque<Path> listed(final Path dir) {
+        final Deque<Path> entries = new ArrayDeque<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (final Path entry : stream) {
+                entries.add(entry);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return entries;
+    }
+}
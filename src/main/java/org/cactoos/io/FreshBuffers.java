@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Buffers that are never pooled: each one is allocated when taken
+ * and left to the garbage collector when released.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class FreshBuffers implements Buffers {
+
+    /**
+     * Allocate direct byte buffers?
+     */
+    private final boolean direct;
+
+    /**
+     * Ctor.
+     */
+    public FreshBuffers() {
+        this(false);
+    }
+
+    /**
+     * Ctor.
+     * @param drct Allocate direct byte buffers?
+     */
+    public FreshBuffers(final boolean drct) {
+        this.direct = drct;
+    }
+
+    @Override
+    public byte[] array(final int size) {
+        return new byte[size];
+    }
+
+    @Override
+    public void release(final byte[] array) {
+        // nothing to do here, it's collected as garbage
+    }
+
+    @Override
+    public ByteBuffer buffer(final int size) {
+        final ByteBuffer buffer;
+        if (this.direct) {
+            buffer = ByteBuffer.allocateDirect(size);
+        } else {
+            buffer = ByteBuffer.allocate(size);
+        }
+        return buffer;
+    }
+
+    @Override
+    public void release(final ByteBuffer buffer) {
+        // nothing to do here, it's collected as garbage
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Glob pattern, matching paths relative to a directory.
+ *
+ * <p>For example, {@code "*.txt"} matches text files right in the
+ * directory and {@code "**}{@code /*.txt"} matches them in its
+ * subdirectories. The syntax is described in
+ * {@link java.nio.file.FileSystem#getPathMatcher(String)}.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+final class Glob implements PathMatcher {
+
+    /**
+     * The directory.
+     */
+    private final Path dir;
+
+    /**
+     * The matcher.
+     */
+    private final Scalar<PathMatcher> matcher;
+
+    /**
+     * Ctor.
+     * @param base The directory
+     * @param glob The pattern
+     */
+    Glob(final Path base, final String glob) {
+        this.dir = base;
+        this.matcher = new Solid<>(
+            () -> base.getFileSystem().getPathMatcher(
+                String.format("glob:%s", glob)
+            )
+        );
+    }
+
+    @Override
+    public boolean matches(final Path path) {
+        return new Unchecked<>(this.matcher).value()
+            .matches(this.dir.relativize(path));
+    }
+}
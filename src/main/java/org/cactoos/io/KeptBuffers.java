@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Released arrays and byte buffers kept by one thread of
+ * {@link ThreadBuffers}.
+ *
+ * <p>The most recently released ones are first. When there is no room
+ * for a released buffer, the least recently released ones of the same
+ * kind are dropped first, then those of the other kind.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class KeptBuffers {
+
+    /**
+     * Released arrays.
+     */
+    private final Deque<byte[]> arrays;
+
+    /**
+     * Released byte buffers.
+     */
+    private final Deque<ByteBuffer> buffers;
+
+    /**
+     * How many bytes are kept in all arrays and buffers.
+     */
+    private long bytes;
+
+    /**
+     * Ctor.
+     */
+    KeptBuffers() {
+        this.arrays = new ArrayDeque<>(0);
+        this.buffers = new ArrayDeque<>(0);
+    }
+
+    /**
+     * Take a kept array.
+     * @param size Length of the array
+     * @return The array, or NULL if none of this length is kept
+     */
+    byte[] array(final int size) {
+        byte[] array = null;
+        final Iterator<byte[]> kept = this.arrays.iterator();
+        while (array == null && kept.hasNext()) {
+            final byte[] next = kept.next();
+            if (next.length == size) {
+                kept.remove();
+                this.bytes -= size;
+                array = next;
+            }
+        }
+        return array;
+    }
+
+    /**
+     * Take a kept byte buffer.
+     * @param size Capacity of the buffer
+     * @param direct Direct or not
+     * @return The buffer, or NULL if none of this kind is kept
+     */
+    ByteBuffer buffer(final int size, final boolean direct) {
+        ByteBuffer buffer = null;
+        final Iterator<ByteBuffer> kept = this.buffers.iterator();
+        while (buffer == null && kept.hasNext()) {
+            final ByteBuffer next = kept.next();
+            if (next.capacity() == size && next.isDirect() == direct) {
+                kept.remove();
+                this.bytes -= size;
+                buffer = next;
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Keep a released array.
+     * @param array The array
+     * @param count How many arrays may be kept
+     * @param budget How many bytes may be kept in all
+     */
+    void keep(final byte[] array, final int count, final long budget) {
+        if (array.length <= budget) {
+            while (this.arrays.size() >= count) {
+                this.bytes -= this.arrays.removeLast().length;
+            }
+            while (this.bytes + array.length > budget) {
+                this.drop(true);
+            }
+            this.arrays.push(array);
+            this.bytes += array.length;
+        }
+    }
+
+    /**
+     * Keep a released byte buffer.
+     * @param buffer The buffer
+     * @param count How many byte buffers may be kept
+     * @param budget How many bytes may be kept in all
+     */
+    void keep(final ByteBuffer buffer, final int count, final long budget) {
+        if (buffer.capacity() <= budget) {
+            while (this.buffers.size() >= count) {
+                this.bytes -= this.buffers.removeLast().capacity();
+            }
+            while (this.bytes + buffer.capacity() > budget) {
+                this.drop(false);
+            }
+            this.buffers.push(buffer);
+            this.bytes += buffer.capacity();
+        }
+    }
+
+    /**
+     * Drop the least recently released array or buffer.
+     * @param array Drop an array, if any is kept?
+     */
+    private void drop(final boolean array) {
+        if (array && !this.arrays.isEmpty() || this.buffers.isEmpty()) {
+            this.bytes -= this.arrays.removeLast().length;
+        } else {
+            this.bytes -= this.buffers.removeLast().capacity();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Content of a file as read-only memory-mapped {@link ByteBuffer}s.
+ *
+ * <p>The file is mapped into memory in regions of the given maximum size,
+ * in order, and the content is never copied onto the heap. A single
+ * buffer can't be larger than {@link Integer#MAX_VALUE} bytes, so
+ * bigger files are always split into several buffers.</p>
+ *
+ * <pre>{@code
+ * for (final ByteBuffer buf : new MappedBuffers(path)) {
+ *     channel.write(buf);
+ * }
+ * }</pre>
+ *
+ * <p>Every call to {@link #iterator()} maps the file again, with its
+ * current size, and returns new buffers. The mapping stays valid until
+ * the buffers are garbage collected.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class MappedBuffers extends IterableEnvelope<ByteBuffer> {
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedBuffers(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param path The path
+     */
+    public MappedBuffers(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path The path
+     * @param max Maximum size of a buffer
+     */
+    public MappedBuffers(final Path path, final int max) {
+        super(
+            new IterableOf<>(
+                () -> {
+                    if (max <= 0) {
+                        throw new IllegalArgumentException(
+                            "Cannot map regions of zero size"
+                        );
+                    }
+                    try (FileChannel channel = FileChannel.open(
+                        path, StandardOpenOption.READ
+                    )) {
+                        final long size = channel.size();
+                        final List<ByteBuffer> buffers = new ArrayList<>(
+                            (int) (size / max + 1L)
+                        );
+                        for (long pos = 0L; pos < size; pos += max) {
+                            buffers.add(
+                                channel.map(
+                                    FileChannel.MapMode.READ_ONLY,
+                                    pos,
+                                    Math.min(max, size - pos)
+                                )
+                            );
+                        }
+                        return buffers.iterator();
+                    }
+                }
+            )
+        );
+    }
+}
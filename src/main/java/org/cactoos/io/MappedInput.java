@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import org.cactoos.Input;
+
+/**
+ * Input of a file, mapped into memory.
+ *
+ * <p>The stream reads directly from the memory-mapped regions
+ * of the file, see {@link MappedBuffers}, without system calls for every
+ * chunk of data. It is worth using for big files, read sequentially
+ * or with many skips, while small files are read faster
+ * with {@link InputOf}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class MappedInput implements Input {
+
+    /**
+     * The buffers to read.
+     */
+    private final Iterable<ByteBuffer> buffers;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedInput(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param path The path
+     */
+    public MappedInput(final Path path) {
+        this(new MappedBuffers(path));
+    }
+
+    /**
+     * Ctor.
+     * @param buffers The buffers to read
+     */
+    private MappedInput(final Iterable<ByteBuffer> buffers) {
+        this.buffers = buffers;
+    }
+
+    @Override
+    public InputStream stream() {
+        return new ByteBuffersInputStream(this.buffers.iterator());
+    }
+}
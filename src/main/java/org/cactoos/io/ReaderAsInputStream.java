@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Reader as {@link InputStream}, encoding characters while they are read.
+ *
+ * <p>Only a buffer of characters and a buffer of bytes are kept in
+ * memory, no matter how long the reader is.</p>
+ *
+ * <p>This class is for internal use only. Use {@link InputOf}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ReaderAsInputStream extends InputStream {
+
+    /**
+     * The reader.
+     */
+    private final Reader reader;
+
+    /**
+     * The encoder.
+     */
+    private final CharsetEncoder encoder;
+
+    /**
+     * Characters read and not yet encoded.
+     */
+    private final CharBuffer chars;
+
+    /**
+     * Bytes encoded and not yet read.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Is the reader over?
+     */
+    private boolean over;
+
+    /**
+     * Is the encoder flushed?
+     */
+    private boolean flushed;
+
+    /**
+     * Ctor.
+     * @param rdr The reader
+     * @param ecdr The encoder
+     * @param size Size of the buffers
+     */
+    ReaderAsInputStream(final Reader rdr, final CharsetEncoder ecdr,
+        final int size) {
+        super();
+        this.reader = rdr;
+        this.encoder = ecdr;
+        this.chars = CharBuffer.allocate(size);
+        this.bytes = ByteBuffer.allocate(
+            Math.max(size, (int) Math.ceil(ecdr.maxBytesPerChar()))
+        );
+        this.bytes.flip();
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int data;
+        if (this.filled()) {
+            data = this.bytes.get() & 0xff;
+        } else {
+            data = -1;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        final int done;
+        if (len == 0) {
+            done = 0;
+        } else if (this.filled()) {
+            done = Math.min(len, this.bytes.remaining());
+            this.bytes.get(buf, off, done);
+        } else {
+            done = -1;
+        }
+        return done;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    /**
+     * Make sure there are encoded bytes to read, if any are left.
+     * @return TRUE if there are bytes to read
+     * @throws IOException If fails
+     */
+    private boolean filled() throws IOException {
+        while (!this.bytes.hasRemaining() && !this.flushed) {
+            if (!this.over) {
+                final int len = this.reader.read(
+                    this.chars.array(),
+                    this.chars.arrayOffset() + this.chars.position(),
+                    this.chars.remaining()
+                );
+                if (len < 0) {
+                    this.over = true;
+                } else {
+                    this.chars.position(this.chars.position() + len);
+                }
+            }
+            this.bytes.compact();
+            this.chars.flip();
+            final CoderResult result = this.encoder.encode(
+                this.chars, this.bytes, this.over
+            );
+            this.chars.compact();
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (this.over && result.isUnderflow()
+                && this.encoder.flush(this.bytes).isUnderflow()) {
+                this.flushed = true;
+            }
+            this.bytes.flip();
+        }
+        return this.bytes.hasRemaining();
+    }
+}
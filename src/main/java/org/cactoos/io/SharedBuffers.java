@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Buffers from one {@link ThreadBuffers} pool shared over the JVM.
+ *
+ * <p>This is the pool used when no {@link Buffers} are given, for
+ * example by {@link Transfer} and {@link TailOf}.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class SharedBuffers implements Buffers {
+
+    /**
+     * The pool shared by all objects of this class.
+     */
+    private static final Buffers POOL = new ThreadBuffers();
+
+    @Override
+    public byte[] array(final int size) {
+        return SharedBuffers.POOL.array(size);
+    }
+
+    @Override
+    public void release(final byte[] array) {
+        SharedBuffers.POOL.release(array);
+    }
+
+    @Override
+    public ByteBuffer buffer(final int size) {
+        return SharedBuffers.POOL.buffer(size);
+    }
+
+    @Override
+    public void release(final ByteBuffer buffer) {
+        SharedBuffers.POOL.release(buffer);
+    }
+}
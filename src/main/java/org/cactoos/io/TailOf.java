@@ -53,6 +53,11 @@ public final class TailOf implements Input {
      */
     private final int max;
 
+    /**
+     * The pool of buffers.
+     */
+    private final Buffers buffers;
+
     /**
      * Constructor.
      * @param inpt Input to decorate
@@ -69,9 +74,24 @@ public final class TailOf implements Input {
      * @param maximum Maximum number of bytes to read at once
      */
     public TailOf(final Input inpt, final int bytes, final int maximum) {
+        this(inpt, bytes, maximum, new SharedBuffers());
+    }
+
+    /**
+     * Constructor.
+     * @param inpt Input to decorate
+     * @param bytes Number of last bytes to show from input
+     * @param maximum Maximum number of bytes to read at once
+     * @param pool The pool to take the buffer from
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public TailOf(final Input inpt, final int bytes, final int maximum,
+        final Buffers pool) {
         this.input = inpt;
         this.count = bytes;
         this.max = maximum;
+        this.buffers = pool;
     }
 
     @Override
@@ -84,16 +104,21 @@ public final class TailOf implements Input {
                 ).asString()
             );
         }
-        final byte[] buffer = new byte[this.max];
+        final byte[] buffer = this.buffers.array(this.max);
         final byte[] response = new byte[this.count];
         int num = 0;
         final InputStream strm = this.input.stream();
-        for (int read = strm.read(buffer); read > 0; read = strm.read(buffer)) {
-            if (read < this.max && read < this.count) {
-                num = this.copyPartial(buffer, response, num, read);
-            } else {
-                num = this.copy(buffer, response, read);
+        try {
+            for (int read = strm.read(buffer); read > 0;
+                read = strm.read(buffer)) {
+                if (read < this.max && read < this.count) {
+                    num = this.copyPartial(buffer, response, num, read);
+                } else {
+                    num = this.copy(buffer, response, read);
+                }
             }
+        } finally {
+            this.buffers.release(buffer);
         }
         return new ByteArrayInputStream(response, 0, num);
     }
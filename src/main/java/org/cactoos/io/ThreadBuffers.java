@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffers pooled per thread.
+ *
+ * <p>Each thread keeps a few released arrays and byte buffers and gives
+ * them out again when a buffer of the same size is taken, so reading
+ * many small inputs one after another doesn't allocate a new buffer
+ * for every input. Every object of this class has a pool of its own;
+ * use {@link SharedBuffers} to share one pool over the JVM.
+ * Buffers larger than allowed are never kept. When a thread already
+ * keeps as many buffers or as many bytes as it may, the least
+ * recently released ones are dropped.</p>
+ *
+ * <p>The number of takes served from the pool and the number of
+ * allocations are counted, over all threads:</p>
+ *
+ * <pre>{@code
+ * final ThreadBuffers pool = new ThreadBuffers();
+ * new Sha256DigestOf(new InputOf(file), 16 << 10, pool).asBytes();
+ * System.out.printf("%d hits, %d misses", pool.hits(), pool.misses());
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class ThreadBuffers implements Buffers {
+
+    /**
+     * Released arrays and byte buffers of each thread.
+     */
+    private final ThreadLocal<KeptBuffers> kept;
+
+    /**
+     * How many takes were served from the pool.
+     */
+    private final LongAdder hits;
+
+    /**
+     * How many takes had to allocate.
+     */
+    private final LongAdder misses;
+
+    /**
+     * How many buffers of each kind a thread keeps.
+     */
+    private final int count;
+
+    /**
+     * The largest size of a buffer to keep.
+     */
+    private final int largest;
+
+    /**
+     * How many bytes a thread keeps in all its buffers.
+     */
+    private final long budget;
+
+    /**
+     * Allocate direct byte buffers?
+     */
+    private final boolean direct;
+
+    /**
+     * Ctor.
+     */
+    public ThreadBuffers() {
+        this(false);
+    }
+
+    /**
+     * Ctor.
+     * @param drct Allocate direct byte buffers?
+     */
+    public ThreadBuffers(final boolean drct) {
+        this(4, 1 << 20, 1L << 20, drct);
+    }
+
+    /**
+     * Ctor.
+     * @param max How many buffers of each kind a thread keeps
+     * @param size The largest size of a buffer to keep
+     * @param drct Allocate direct byte buffers?
+     */
+    public ThreadBuffers(final int max, final int size, final boolean drct) {
+        this(max, size, (long) max * size, drct);
+    }
+
+    /**
+     * Ctor.
+     * @param max How many buffers of each kind a thread keeps
+     * @param size The largest size of a buffer to keep
+     * @param bytes How many bytes a thread keeps in all its buffers
+     * @param drct Allocate direct byte buffers?
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ThreadBuffers(final int max, final int size, final long bytes,
+        final boolean drct) {
+        this.kept = ThreadLocal.withInitial(KeptBuffers::new);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.count = max;
+        this.largest = size;
+        this.budget = bytes;
+        this.direct = drct;
+    }
+
+    @Override
+    public byte[] array(final int size) {
+        byte[] array = this.kept.get().array(size);
+        if (array == null) {
+            this.misses.increment();
+            array = new byte[size];
+        } else {
+            this.hits.increment();
+        }
+        return array;
+    }
+
+    @Override
+    public void release(final byte[] array) {
+        if (array.length <= this.largest && this.count > 0) {
+            this.kept.get().keep(array, this.count, this.budget);
+        }
+    }
+
+    @Override
+    public ByteBuffer buffer(final int size) {
+        ByteBuffer buffer = this.kept.get().buffer(size, this.direct);
+        if (buffer == null) {
+            this.misses.increment();
+            buffer = new FreshBuffers(this.direct).buffer(size);
+        } else {
+            this.hits.increment();
+            buffer.clear();
+        }
+        return buffer;
+    }
+
+    @Override
+    public void release(final ByteBuffer buffer) {
+        if (buffer.capacity() <= this.largest && this.count > 0
+            && !buffer.isReadOnly()) {
+            this.kept.get().keep(buffer, this.count, this.budget);
+        }
+    }
+
+    /**
+     * How many takes were served from this pool, by all threads.
+     * @return Number of takes
+     */
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * How many takes from this pool had to allocate a new buffer,
+     * in all threads.
+     * @return Number of takes
+     */
+    public long misses() {
+        return this.misses.sum();
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Transfer of bytes from a stream to another stream.
+ *
+ * <p>When the source or the target is a file, opened as a file stream
+ * or by {@link ChannelInput} or {@link ChannelOutput}, the bytes are moved
+ * with {@link FileChannel#transferTo(long, long, WritableByteChannel)}
+ * or {@link FileChannel#transferFrom(ReadableByteChannel, long, long)},
+ * which lets the operating system copy them without passing them
+ * through the Java heap. Otherwise (pipes, devices, other streams)
+ * they are copied through a buffer. In any case, no more than
+ * the requested number of bytes is read from the source.</p>
+ *
+ * <p>Neither of the streams is closed.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Transfer {
+
+    /**
+     * The source.
+     */
+    private final InputStream input;
+
+    /**
+     * The target.
+     */
+    private final OutputStream output;
+
+    /**
+     * The size of the buffer.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param src The source
+     * @param tgt The target
+     */
+    Transfer(final InputStream src, final OutputStream tgt) {
+        this(src, tgt, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param src The source
+     * @param tgt The target
+     * @param max The size of the buffer
+     */
+    Transfer(final InputStream src, final OutputStream tgt, final int max) {
+        this.input = src;
+        this.output = tgt;
+        this.size = max;
+    }
+
+    /**
+     * Move bytes from the source to the target, until the end of the source
+     * or until the given number of bytes is moved.
+     * @param max Maximum number of bytes to move
+     * @return How many bytes were moved
+     * @throws IOException If fails
+     */
+    long copy(final long max) throws IOException {
+        long done = 0L;
+        final FileChannel source = this.source();
+        final FileChannel target = this.target();
+        if (max > 0L && source != null && source.size() > 0L) {
+            done = this.transferred(source, target, max);
+            if (done < max && source.position() < source.size()) {
+                done += this.buffered(max - done);
+            }
+        } else if (max > 0L && target != null && this.seekable(target)) {
+            done = this.received(target, max);
+        } else if (max > 0L) {
+            done = this.buffered(max);
+        }
+        return done;
+    }
+
+    /**
+     * Move bytes from a file channel to the target.
+     * @param channel The channel of the source
+     * @param target The channel of the target, or NULL if it has none
+     * @param max Maximum number of bytes to move
+     * @return How many bytes were moved
+     * @throws IOException If fails
+     */
+    private long transferred(final FileChannel channel,
+        final FileChannel target, final long max) throws IOException {
+        final WritableByteChannel sink;
+        if (target == null) {
+            sink = Channels.newChannel(this.output);
+        } else {
+            sink = target;
+        }
+        final long start = channel.position();
+        long done = 0L;
+        while (done < max) {
+            final long moved = channel.transferTo(
+                start + done, max - done, sink
+            );
+            if (moved <= 0L) {
+                break;
+            }
+            done += moved;
+        }
+        channel.position(start + done);
+        return done;
+    }
+
+    /**
+     * Move bytes from the source to a file channel.
+     * @param channel The channel of the target
+     * @param max Maximum number of bytes to move
+     * @return How many bytes were moved
+     * @throws IOException If fails
+     */
+    private long received(final FileChannel channel, final long max)
+        throws IOException {
+        final ReadableByteChannel source = Channels.newChannel(this.input);
+        final long start = channel.position();
+        long done = 0L;
+        while (done < max) {
+            final long moved = channel.transferFrom(
+                source, start + done, max - done
+            );
+            if (moved <= 0L) {
+                break;
+            }
+            done += moved;
+        }
+        channel.position(start + done);
+        return done;
+    }
+
+    /**
+     * Move bytes from the source to the target through a buffer.
+     * @param max Maximum number of bytes to move
+     * @return How many bytes were moved
+     * @throws IOException If fails
+     */
+    private long buffered(final long max) throws IOException {
+        final Buffers buffers = new SharedBuffers();
+        final byte[] buf = buffers.array(this.size);
+        long done = 0L;
+        try {
+            while (done < max) {
+                final int len = this.input.read(
+                    buf, 0, (int) Math.min(buf.length, max - done)
+                );
+                if (len < 0) {
+                    break;
+                }
+                this.output.write(buf, 0, len);
+                done += (long) len;
+            }
+        } finally {
+            buffers.release(buf);
+        }
+        return done;
+    }
+
+    /**
+     * File channel of the source, if the source has one.
+     * @return The channel, or NULL
+     */
+    private FileChannel source() {
+        FileChannel channel = null;
+        if (this.input instanceof FileInputStream) {
+            channel = ((FileInputStream) this.input).getChannel();
+        } else if (this.input instanceof ChannelInputStream) {
+            channel = ((ChannelInputStream) this.input).channel();
+        }
+        return channel;
+    }
+
+    /**
+     * File channel of the target, if the target has one.
+     * @return The channel, or NULL
+     */
+    private FileChannel target() {
+        FileChannel channel = null;
+        if (this.output instanceof FileOutputStream) {
+            channel = ((FileOutputStream) this.output).getChannel();
+        } else if (this.output instanceof ChannelOutputStream) {
+            channel = ((ChannelOutputStream) this.output).channel();
+        }
+        return channel;
+    }
+
+    /**
+     * Can this channel change its position, unlike pipes?
+     * @param channel The channel
+     * @return TRUE if it can
+     */
+    private boolean seekable(final FileChannel channel) {
+        boolean seekable;
+        try {
+            channel.position(channel.position());
+            seekable = true;
+        } catch (final IOException ex) {
+            seekable = false;
+        }
+        return seekable;
+    }
+}
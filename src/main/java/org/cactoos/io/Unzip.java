@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.ZipInputStream;
+import org.cactoos.Input;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Entries of a zip archive, as names and inputs.
+ *
+ * <p>The content of an entry is never read into memory, it is
+ * decompressed while its input is being read:</p>
+ *
+ * <pre>{@code
+ * for (final Map.Entry<String, Input> entry : new Unzip(path)) {
+ *     new LengthOf(
+ *         new TeeInput(entry.getValue(), target.resolve(entry.getKey()))
+ *     ).value();
+ * }
+ * }</pre>
+ *
+ * <p>When the archive is a file, the entries are found in its central
+ * directory and each of them can be read any number of times, in any
+ * order. The file is opened once for the whole iteration and closed
+ * after the last entry. When the archive is an arbitrary {@link Input},
+ * it is read once, from start to end, and an entry can only be read
+ * before the iteration moves to the next one. The stream is closed after
+ * the last entry.</p>
+ *
+ * <p>If the iteration stops before the last entry, close the iterator,
+ * which is {@link java.io.Closeable}, to release the archive:</p>
+ *
+ * <pre>{@code
+ * final Iterator<Map.Entry<String, Input>> entries =
+ *     new Unzip(path).iterator();
+ * final Input first = entries.next().getValue();
+ * // read the first entry
+ * ((Closeable) entries).close();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Unzip extends IterableEnvelope<Map.Entry<String, Input>> {
+
+    /**
+     * Ctor.
+     * @param file The archive
+     */
+    public Unzip(final Path file) {
+        this(file.toFile());
+    }
+
+    /**
+     * Ctor.
+     * @param file The archive
+     */
+    public Unzip(final File file) {
+        super(new IterableOf<>(() -> new ZipFileEntries(file)));
+    }
+
+    /**
+     * Ctor.
+     * @param input The archive
+     */
+    public Unzip(final Input input) {
+        super(
+            new IterableOf<>(
+                () -> new ZipEntries(new ZipInputStream(input.stream()))
+            )
+        );
+    }
+}
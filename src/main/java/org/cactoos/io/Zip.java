@@ -24,25 +24,20 @@
 
 package org.cactoos.io;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.InputStream;
 import java.nio.file.Path;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 import org.cactoos.Input;
-import org.cactoos.bytes.BytesOf;
 
 /**
  * Zip files and directory.
+ *
+ * <p>The archive is compressed while its stream is being read, a chunk
+ * at a time, so it is never kept in memory as a whole.</p>
  * <br>
  * <br>There is no thread-safety guarantee.
  *
  * @since 0.29
  */
-@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
 public final class Zip implements Input {
 
     /**
@@ -68,24 +63,6 @@ public final class Zip implements Input {
 
     @Override
     public InputStream stream() throws Exception {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try (ZipOutputStream zip = new ZipOutputStream(out)) {
-            for (final Path path : this.origin) {
-                final File file = path.toFile();
-                final ZipEntry entry = new ZipEntry(
-                    file.getPath()
-                );
-                zip.putNextEntry(entry);
-                if (file.isFile()) {
-                    try (
-                        FileInputStream input = new FileInputStream(file)
-                    ) {
-                        zip.write(new BytesOf(new InputOf(input)).asBytes());
-                    }
-                }
-                zip.closeEntry();
-            }
-        }
-        return new ByteArrayInputStream(out.toByteArray());
+        return new ZipStream(this.origin.iterator());
     }
 }
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.cactoos.Input;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Entries of a zip stream, read one after another.
+ *
+ * <p>The input of an entry reads the zip stream itself, so it can only
+ * be read until {@link #hasNext()} is called again. The zip stream is
+ * closed after the last entry, or when the iterator is closed.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ZipEntries implements Iterator<Map.Entry<String, Input>>,
+    Closeable {
+
+    /**
+     * The zip stream.
+     */
+    private final ZipInputStream zip;
+
+    /**
+     * The next entry, or NULL if it's not found yet.
+     */
+    private ZipEntry entry;
+
+    /**
+     * Is the stream over?
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param stream The zip stream
+     */
+    ZipEntries(final ZipInputStream stream) {
+        this.zip = stream;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.entry == null && !this.over) {
+            this.entry = new Unchecked<>(this::following).value();
+        }
+        return this.entry != null;
+    }
+
+    @Override
+    public Map.Entry<String, Input> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "There are no more entries in the zip stream"
+            );
+        }
+        final String name = this.entry.getName();
+        this.entry = null;
+        return new MapEntry<>(
+            name, () -> new CloseShieldInputStream(this.zip)
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.over = true;
+        this.entry = null;
+        this.zip.close();
+    }
+
+    /**
+     * Find the next entry, and close the stream if there is none.
+     * @return The entry or NULL
+     * @throws IOException If fails
+     */
+    private ZipEntry following() throws IOException {
+        final ZipEntry next = this.zip.getNextEntry();
+        if (next == null) {
+            this.close();
+        }
+        return next;
+    }
+}
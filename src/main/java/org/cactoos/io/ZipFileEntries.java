@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.cactoos.Input;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Entries of a zip file, found in its central directory.
+ *
+ * <p>The zip file is opened once, on the first entry, and all entries
+ * are read through it while the iteration is on. It is closed after the
+ * last entry, or when the iterator is closed. After that every entry
+ * opens the zip file again when it is read.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ZipFileEntries implements Iterator<Map.Entry<String, Input>>,
+    Closeable {
+
+    /**
+     * The archive.
+     */
+    private final File file;
+
+    /**
+     * The zip file, absent until the first entry and after the last one.
+     */
+    private ZipFile zip;
+
+    /**
+     * Entries of the zip file.
+     */
+    private Enumeration<? extends ZipEntry> all;
+
+    /**
+     * Is the iteration over?
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param archive The archive
+     */
+    ZipFileEntries(final File archive) {
+        this.file = archive;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.over && this.zip == null) {
+            this.zip = new Unchecked<>(() -> new ZipFile(this.file)).value();
+            this.all = this.zip.entries();
+        }
+        if (!this.over && !this.all.hasMoreElements()) {
+            new Unchecked<>(
+                () -> {
+                    this.close();
+                    return true;
+                }
+            ).value();
+        }
+        return !this.over;
+    }
+
+    @Override
+    public Map.Entry<String, Input> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "There are no more entries in the zip file"
+            );
+        }
+        final String name = this.all.nextElement().getName();
+        return new MapEntry<>(name, new ZipFileEntry(this.file, name, this));
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.over = true;
+        if (this.zip != null) {
+            final ZipFile open = this.zip;
+            this.zip = null;
+            open.close();
+        }
+    }
+
+    /**
+     * The zip file, if the iteration is still on.
+     * @return The zip file or NULL
+     */
+    ZipFile opened() {
+        return this.zip;
+    }
+}
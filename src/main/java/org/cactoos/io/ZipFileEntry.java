@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.cactoos.Input;
+import org.cactoos.text.FormattedText;
+
+/**
+ * Entry of a zip file.
+ *
+ * <p>While the iteration over the entries is on, the stream is read
+ * through the zip file it keeps open. Otherwise every stream opens the
+ * zip file and closes it when closed.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ZipFileEntry implements Input {
+
+    /**
+     * The archive.
+     */
+    private final File file;
+
+    /**
+     * Name of the entry.
+     */
+    private final String name;
+
+    /**
+     * The iteration the entry comes from.
+     */
+    private final ZipFileEntries walk;
+
+    /**
+     * Ctor.
+     * @param zip The archive
+     * @param entry Name of the entry
+     * @param entries The iteration the entry comes from
+     */
+    ZipFileEntry(final File zip, final String entry,
+        final ZipFileEntries entries) {
+        this.file = zip;
+        this.name = entry;
+        this.walk = entries;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public InputStream stream() throws Exception {
+        final ZipFile shared = this.walk.opened();
+        final InputStream stream;
+        if (shared == null) {
+            final ZipFile zip = new ZipFile(this.file);
+            final InputStream origin;
+            try {
+                origin = this.opened(zip);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                zip.close();
+                throw ex;
+            }
+            stream = new FilterInputStream(origin) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        zip.close();
+                    }
+                }
+            };
+        } else {
+            stream = this.opened(shared);
+        }
+        return stream;
+    }
+
+    /**
+     * Open the entry in the zip file.
+     * @param zip The zip file
+     * @return The stream of the entry
+     * @throws Exception If there is no such entry
+     */
+    private InputStream opened(final ZipFile zip) throws Exception {
+        final ZipEntry entry = zip.getEntry(this.name);
+        if (entry == null) {
+            throw new FileNotFoundException(
+                new FormattedText(
+                    "There is no %s in %s", this.name, this.file
+                ).asString()
+            );
+        }
+        return zip.getInputStream(entry);
+    }
+}
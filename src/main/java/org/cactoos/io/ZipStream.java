@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Zip archive of files, compressed while being read.
+ *
+ * <p>Nothing is compressed until the stream is read. Every time its
+ * compressed bytes are consumed, the stream reads the next chunk of the
+ * current file (or starts the next entry) and compresses it, so no more
+ * than a chunk of the archive is kept in memory, no matter how large
+ * the files are.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ZipStream extends InputStream {
+
+    /**
+     * Files to compress.
+     */
+    private final Iterator<? extends Path> paths;
+
+    /**
+     * Compressed bytes not yet moved to the chunk.
+     */
+    private final ByteArrayOutputStream pending;
+
+    /**
+     * The archive, writing into {@link #pending}.
+     */
+    private final ZipOutputStream zip;
+
+    /**
+     * Buffer for reading files.
+     */
+    private final byte[] buffer;
+
+    /**
+     * Compressed bytes being read.
+     */
+    private byte[] chunk;
+
+    /**
+     * Position in the chunk.
+     */
+    private int pos;
+
+    /**
+     * File being compressed, or NULL between entries.
+     */
+    private InputStream current;
+
+    /**
+     * Is the archive finished?
+     */
+    private boolean finished;
+
+    /**
+     * Ctor.
+     * @param files Files to compress
+     */
+    ZipStream(final Iterator<? extends Path> files) {
+        this(files, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param files Files to compress
+     * @param size Size of the buffer for reading files
+     */
+    ZipStream(final Iterator<? extends Path> files, final int size) {
+        super();
+        this.paths = files;
+        this.pending = new ByteArrayOutputStream(size);
+        this.zip = new ZipOutputStream(this.pending);
+        this.buffer = new byte[size];
+        this.chunk = new byte[0];
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int data;
+        if (this.filled()) {
+            data = this.chunk[this.pos] & 0xff;
+            ++this.pos;
+        } else {
+            data = -1;
+        }
+        return data;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        final int done;
+        if (len == 0) {
+            done = 0;
+        } else if (this.filled()) {
+            done = Math.min(len, this.chunk.length - this.pos);
+            System.arraycopy(this.chunk, this.pos, buf, off, done);
+            this.pos += done;
+        } else {
+            done = -1;
+        }
+        return done;
+    }
+
+    @Override
+    public int available() {
+        return this.chunk.length - this.pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.current != null) {
+                this.current.close();
+                this.current = null;
+            }
+        } finally {
+            this.finished = true;
+            this.zip.close();
+        }
+    }
+
+    /**
+     * Make sure there are compressed bytes to read, if any are left.
+     * @return TRUE if there are bytes in the chunk
+     * @throws IOException If fails
+     */
+    private boolean filled() throws IOException {
+        while (this.pos == this.chunk.length && !this.finished) {
+            this.step();
+            if (this.pending.size() > 0) {
+                this.chunk = this.pending.toByteArray();
+                this.pos = 0;
+                this.pending.reset();
+            }
+        }
+        return this.pos < this.chunk.length;
+    }
+
+    /**
+     * Compress the next chunk of a file, start the next entry,
+     * or finish the archive.
+     * @throws IOException If fails
+     */
+    private void step() throws IOException {
+        if (this.current != null) {
+            final int len = this.current.read(this.buffer);
+            if (len < 0) {
+                this.current.close();
+                this.current = null;
+                this.zip.closeEntry();
+            } else {
+                this.zip.write(this.buffer, 0, len);
+            }
+        } else if (this.paths.hasNext()) {
+            final File file = this.paths.next().toFile();
+            this.zip.putNextEntry(new ZipEntry(file.getPath()));
+            if (file.isFile()) {
+                this.current = new FileInputStream(file);
+            } else {
+                this.zip.closeEntry();
+            }
+        } else {
+            this.zip.close();
+            this.finished = true;
+        }
+    }
+}
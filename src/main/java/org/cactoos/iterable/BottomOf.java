@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The lowest items of an iterable, the lowest first.
+ *
+ * <p>Here is how you can use it to find the three fastest laps:</p>
+ *
+ * <pre>
+ * Iterable&lt;Duration&gt; fastest = new BottomOf&lt;&gt;(3, laps);
+ * </pre>
+ *
+ * <p>It gives the same items as {@code new HeadOf<>(num, new Sorted<>(
+ * src))}, but keeps only {@code num} items in memory and costs
+ * {@code O(n log num)}. Of equal items the earlier one comes first.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @see TopOf
+ * @since 1.0
+ */
+public final class BottomOf<T> extends IterableEnvelope<T> {
+
+    /**
+     * Ctor.
+     *
+     * <p>If you're using this ctor you must be sure that type {@code T}
+     * implements {@link Comparable} interface. Otherwise, there will be
+     * a type casting exception in runtime.</p>
+     *
+     * @param num How many items to take
+     * @param src The underlying iterable
+     */
+    @SuppressWarnings("unchecked")
+    public BottomOf(final int num, final Iterable<? extends T> src) {
+        this(num, (Comparator<? super T>) Comparator.naturalOrder(), src);
+    }
+
+    /**
+     * Ctor.
+     * @param num How many items to take
+     * @param cmp The comparator
+     * @param src The underlying iterable
+     */
+    public BottomOf(final int num, final Comparator<? super T> cmp,
+        final Iterable<? extends T> src) {
+        super(new TopOf<>(num, cmp.reversed(), src));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The iterable is split into parts, the lowest items of every
+     * part are found in parallel, in the pool, and then merged.</p>
+     *
+     * @param pool The pool
+     * @param num How many items to take
+     * @param cmp The comparator
+     * @param src The underlying iterable
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public BottomOf(final ForkJoinPool pool, final int num,
+        final Comparator<? super T> cmp, final Iterable<? extends T> src) {
+        super(new TopOf<>(pool, num, cmp.reversed(), src));
+    }
+}
@@ -41,6 +41,9 @@ import org.cactoos.Scalar;
  * );
  * </pre>
  *
+ * <p>Its {@link java.util.Spliterator} is split where the source one is
+ * split, so the predicate may be applied in parallel.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of item
@@ -68,7 +71,8 @@ public final class Filtered<X> extends IterableEnvelope<X> {
     public Filtered(final Func<? super X, Boolean> fnc, final Iterable<? extends X> src) {
         super(
             new IterableOf<>(
-                () -> new org.cactoos.iterator.Filtered<>(fnc, src.iterator())
+                () -> new org.cactoos.iterator.Filtered<>(fnc, src.iterator()),
+                () -> new FilteredSpliterator<>(fnc, src.spliterator())
             )
         );
     }
@@ -84,6 +88,10 @@ public final class Filtered<X> extends IterableEnvelope<X> {
                 () -> new org.cactoos.iterator.Filtered<>(
                     src.iterator(),
                     fnc
+                ),
+                () -> new FilteredSpliterator<X>(
+                    item -> fnc.apply(item).value(),
+                    src.spliterator()
                 )
             )
         );
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+
+/**
+ * Iterable of int values, filtered without boxing.
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FilteredInts extends IterableEnvelope<Integer>
+    implements IntIterable {
+
+    /**
+     * The predicate.
+     */
+    private final IntPredicate func;
+
+    /**
+     * The origin.
+     */
+    private final IntIterable origin;
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param src The origin
+     */
+    public FilteredInts(final IntPredicate fnc, final int... src) {
+        this(fnc, new IterableOfInts(src));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param src The origin
+     */
+    public FilteredInts(final IntPredicate fnc, final IntIterable src) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.FilteredInts(
+                    fnc, src.intIterator()
+                )
+            )
+        );
+        this.func = fnc;
+        this.origin = src;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new org.cactoos.iterator.FilteredInts(
+            this.func, this.origin.intIterator()
+        );
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Spliterator that skips the items of another one not matching
+ * a predicate.
+ *
+ * <p>It is split where the origin is split. Its size is not known, but
+ * the size of the origin is a fair estimate of it.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of item
+ * @since 1.0
+ */
+final class FilteredSpliterator<X> implements Spliterator<X> {
+
+    /**
+     * Characteristics the filtering keeps.
+     */
+    private static final int KEPT = Spliterator.ORDERED | Spliterator.DISTINCT
+        | Spliterator.NONNULL | Spliterator.IMMUTABLE
+        | Spliterator.CONCURRENT;
+
+    /**
+     * The predicate.
+     */
+    private final UncheckedFunc<X, Boolean> func;
+
+    /**
+     * The origin.
+     */
+    private final Spliterator<? extends X> origin;
+
+    /**
+     * Has the last advance of the origin found a matching item?
+     */
+    private boolean found;
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param spltr The origin
+     */
+    FilteredSpliterator(final Func<? super X, Boolean> fnc,
+        final Spliterator<? extends X> spltr) {
+        this(new UncheckedFunc<>(fnc::apply), spltr);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param spltr The origin
+     */
+    private FilteredSpliterator(final UncheckedFunc<X, Boolean> fnc,
+        final Spliterator<? extends X> spltr) {
+        this.func = fnc;
+        this.origin = spltr;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super X> action) {
+        this.found = false;
+        boolean more = true;
+        while (!this.found && more) {
+            more = this.origin.tryAdvance(
+                item -> {
+                    if (this.func.apply(item)) {
+                        this.found = true;
+                        action.accept(item);
+                    }
+                }
+            );
+        }
+        return this.found;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super X> action) {
+        this.origin.forEachRemaining(
+            item -> {
+                if (this.func.apply(item)) {
+                    action.accept(item);
+                }
+            }
+        );
+    }
+
+    @Override
+    public Spliterator<X> trySplit() {
+        final Spliterator<? extends X> prefix = this.origin.trySplit();
+        final Spliterator<X> split;
+        if (prefix == null) {
+            split = null;
+        } else {
+            split = new FilteredSpliterator<>(this.func, prefix);
+        }
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.origin.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.origin.characteristics() & FilteredSpliterator.KEPT;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterable of int values, which can also be iterated without boxing.
+ *
+ * <p>Its {@link #intIterator()} returns the values with
+ * {@link PrimitiveIterator.OfInt#nextInt()}, so a pipeline of
+ * {@link RangeOfInts}, {@link MappedInts}, {@link FilteredInts} and
+ * {@link org.cactoos.number.SumOfInts} allocates nothing per item.
+ * It is still an {@link Iterable} of {@link Integer}, for any code
+ * that doesn't know about primitives.</p>
+ *
+ * @since 1.0
+ */
+public interface IntIterable extends Iterable<Integer> {
+
+    /**
+     * Iterator over the same values as {@link #iterator()}, which
+     * returns them without boxing.
+     * @return The iterator
+     */
+    PrimitiveIterator.OfInt intIterator();
+}
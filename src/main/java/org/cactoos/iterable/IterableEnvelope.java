@@ -24,6 +24,7 @@
 package org.cactoos.iterable;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 
 /**
  * Iterable envelope.
@@ -53,6 +54,17 @@ public abstract class IterableEnvelope<X> implements Iterable<X> {
         return this.wrapped.iterator();
     }
 
+    /**
+     * Spliterator of the wrapped iterable.
+     *
+     * <p>Subclasses may override it with a spliterator of their own.</p>
+     * @return The spliterator
+     */
+    @Override
+    public Spliterator<X> spliterator() {
+        return this.wrapped.spliterator();
+    }
+
     @Override
     public final boolean equals(final Object other) {
         return this.wrapped.equals(other);
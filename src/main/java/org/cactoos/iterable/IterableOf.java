@@ -24,7 +24,10 @@
 package org.cactoos.iterable;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import org.cactoos.Fallback;
 import org.cactoos.Scalar;
 import org.cactoos.iterator.IteratorOf;
@@ -39,6 +42,10 @@ import org.cactoos.text.UncheckedText;
 /**
  * Array as iterable.
  *
+ * <p>The {@link Spliterator} of an array knows its size and is split
+ * evenly. The one of an iterator is split in batches, unless another
+ * spliterator is given to the constructor.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of item
@@ -51,13 +58,21 @@ public final class IterableOf<X> implements Iterable<X> {
      */
     private final Scalar<? extends Iterator<? extends X>> itr;
 
+    /**
+     * The encapsulated spliterator.
+     */
+    private final Scalar<? extends Spliterator<? extends X>> split;
+
     /**
      * Ctor.
      * @param items The array
      */
     @SafeVarargs
     public IterableOf(final X... items) {
-        this(() -> new IteratorOf<>(items));
+        this(
+            () -> new IteratorOf<>(items),
+            () -> Arrays.spliterator(items)
+        );
     }
 
     /**
@@ -74,7 +89,24 @@ public final class IterableOf<X> implements Iterable<X> {
      * @param sclr The encapsulated iterator of x
      */
     public IterableOf(final Scalar<? extends Iterator<? extends X>> sclr) {
+        this(
+            sclr,
+            () -> Spliterators.spliteratorUnknownSize(
+                sclr.value(), Spliterator.ORDERED
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param sclr The encapsulated iterator of x
+     * @param spltr The encapsulated spliterator of x, with the same items
+     * @since 1.0
+     */
+    public IterableOf(final Scalar<? extends Iterator<? extends X>> sclr,
+        final Scalar<? extends Spliterator<? extends X>> spltr) {
         this.itr = sclr;
+        this.split = spltr;
     }
 
     @SuppressWarnings("unchecked")
@@ -83,6 +115,12 @@ public final class IterableOf<X> implements Iterable<X> {
         return (Iterator<X>) new Unchecked<>(this.itr).value();
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public Spliterator<X> spliterator() {
+        return (Spliterator<X>) new Unchecked<>(this.split).value();
+    }
+
     @Override
     @SuppressFBWarnings("EQ_UNUSUAL")
     @SuppressWarnings (value = "unchecked")
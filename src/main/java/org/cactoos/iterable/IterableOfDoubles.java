@@ -23,20 +23,41 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
 import org.cactoos.iterator.IteratorOfDoubles;
 
 /**
  * Iterable of double values.
  *
+ * <p>There is no thread-safety guarantee.</p>
+ *
  * @since 1.0
  */
-public final class IterableOfDoubles extends IterableEnvelope<Double> {
+public final class IterableOfDoubles extends IterableEnvelope<Double>
+    implements DoubleIterable {
+
+    /**
+     * The values.
+     */
+    private final double[] values;
 
     /**
      * Ctor.
-     * @param values Double values
+     * @param vals Double values
      */
-    public IterableOfDoubles(final double... values) {
-        super(new IterableOf<>(() -> new IteratorOfDoubles(values)));
+    public IterableOfDoubles(final double... vals) {
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfDoubles(vals),
+                () -> Arrays.spliterator(vals)
+            )
+        );
+        this.values = vals;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble doubleIterator() {
+        return new IteratorOfDoubles(this.values);
     }
 }
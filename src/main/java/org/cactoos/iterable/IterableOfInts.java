@@ -23,20 +23,41 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
 import org.cactoos.iterator.IteratorOfInts;
 
 /**
- * Iterable of integer values.
+ * Iterable of int values.
+ *
+ * <p>There is no thread-safety guarantee.</p>
  *
  * @since 1.0
  */
-public final class IterableOfInts extends IterableEnvelope<Integer> {
+public final class IterableOfInts extends IterableEnvelope<Integer>
+    implements IntIterable {
+
+    /**
+     * The values.
+     */
+    private final int[] values;
 
     /**
      * Ctor.
-     * @param values Integer values
+     * @param vals Integer values
      */
-    public IterableOfInts(final int... values) {
-        super(new IterableOf<>(() -> new IteratorOfInts(values)));
+    public IterableOfInts(final int... vals) {
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfInts(vals),
+                () -> Arrays.spliterator(vals)
+            )
+        );
+        this.values = vals;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new IteratorOfInts(this.values);
     }
 }
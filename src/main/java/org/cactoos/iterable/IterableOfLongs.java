@@ -23,20 +23,41 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
 import org.cactoos.iterator.IteratorOfLongs;
 
 /**
  * Iterable of long values.
  *
+ * <p>There is no thread-safety guarantee.</p>
+ *
  * @since 1.0
  */
-public final class IterableOfLongs extends IterableEnvelope<Long> {
+public final class IterableOfLongs extends IterableEnvelope<Long>
+    implements LongIterable {
+
+    /**
+     * The values.
+     */
+    private final long[] values;
 
     /**
      * Ctor.
-     * @param values Long values
+     * @param vals Long values
      */
-    public IterableOfLongs(final long... values) {
-        super(new IterableOf<>(() -> new IteratorOfLongs(values)));
+    public IterableOfLongs(final long... vals) {
+        super(
+            new IterableOf<>(
+                () -> new IteratorOfLongs(vals),
+                () -> Arrays.spliterator(vals)
+            )
+        );
+        this.values = vals;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong longIterator() {
+        return new IteratorOfLongs(this.values);
     }
 }
@@ -28,6 +28,10 @@ import org.cactoos.Func;
 /**
  * Mapped iterable.
  *
+ * <p>Its {@link java.util.Spliterator} is split where the source one is
+ * split and keeps its size, so the function may be applied in parallel,
+ * for example by {@link org.cactoos.scalar.Folded}.</p>
+ *
  * <p>
  * There is no thread-safety guarantee.
  *
@@ -58,7 +62,8 @@ public final class Mapped<Y> extends IterableEnvelope<Y> {
     ) {
         super(
             new IterableOf<>(
-                () -> new org.cactoos.iterator.Mapped<>(fnc, src.iterator())
+                () -> new org.cactoos.iterator.Mapped<>(fnc, src.iterator()),
+                () -> new MappedSpliterator<>(fnc, src.spliterator())
             )
         );
     }
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Iterable of long values, mapped without boxing.
+ *
+ * <pre>{@code
+ * new MappedLongs(x -> x * x, new RangeOfLongs(1L, 1_000_000L))
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class MappedLongs extends IterableEnvelope<Long>
+    implements LongIterable {
+
+    /**
+     * The function.
+     */
+    private final LongUnaryOperator func;
+
+    /**
+     * The origin.
+     */
+    private final LongIterable origin;
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param src The origin
+     */
+    public MappedLongs(final LongUnaryOperator fnc, final long... src) {
+        this(fnc, new IterableOfLongs(src));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param src The origin
+     */
+    public MappedLongs(final LongUnaryOperator fnc, final LongIterable src) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.MappedLongs(
+                    fnc, src.longIterator()
+                )
+            )
+        );
+        this.func = fnc;
+        this.origin = src;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong longIterator() {
+        return new org.cactoos.iterator.MappedLongs(
+            this.func, this.origin.longIterator()
+        );
+    }
+}
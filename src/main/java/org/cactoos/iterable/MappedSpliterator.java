@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+
+/**
+ * Spliterator that maps the items of another one.
+ *
+ * <p>It is split where the origin is split, and keeps its size and
+ * order, so mapping can run in parallel over a sized source.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of source item
+ * @param <Y> Type of target item
+ * @since 1.0
+ */
+final class MappedSpliterator<X, Y> implements Spliterator<Y> {
+
+    /**
+     * Characteristics the mapping keeps.
+     */
+    private static final int KEPT = Spliterator.ORDERED | Spliterator.SIZED
+        | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+        | Spliterator.CONCURRENT;
+
+    /**
+     * The function.
+     */
+    private final UncheckedFunc<X, Y> func;
+
+    /**
+     * The origin.
+     */
+    private final Spliterator<? extends X> origin;
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param spltr The origin
+     */
+    MappedSpliterator(final Func<? super X, ? extends Y> fnc,
+        final Spliterator<? extends X> spltr) {
+        this(new UncheckedFunc<>(fnc::apply), spltr);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param spltr The origin
+     */
+    private MappedSpliterator(final UncheckedFunc<X, Y> fnc,
+        final Spliterator<? extends X> spltr) {
+        this.func = fnc;
+        this.origin = spltr;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Y> action) {
+        return this.origin.tryAdvance(
+            item -> action.accept(this.func.apply(item))
+        );
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super Y> action) {
+        this.origin.forEachRemaining(
+            item -> action.accept(this.func.apply(item))
+        );
+    }
+
+    @Override
+    public Spliterator<Y> trySplit() {
+        final Spliterator<? extends X> prefix = this.origin.trySplit();
+        final Spliterator<Y> split;
+        if (prefix == null) {
+            split = null;
+        } else {
+            split = new MappedSpliterator<>(this.func, prefix);
+        }
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.origin.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.origin.characteristics() & MappedSpliterator.KEPT;
+    }
+}
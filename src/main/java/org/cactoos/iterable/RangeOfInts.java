@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Range of int values from min to max, both inclusive, without boxing.
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class RangeOfInts extends IterableEnvelope<Integer>
+    implements IntIterable {
+
+    /**
+     * Start of the range.
+     */
+    private final int min;
+
+    /**
+     * End of the range.
+     */
+    private final int max;
+
+    /**
+     * The step.
+     */
+    private final int step;
+
+    /**
+     * Ctor.
+     * @param min Start of the range
+     * @param max End of the range
+     */
+    public RangeOfInts(final int min, final int max) {
+        this(min, max, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param min Start of the range
+     * @param max End of the range
+     * @param step The step, positive
+     */
+    public RangeOfInts(final int min, final int max, final int step) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.RangeOfInts(
+                    min, max, step
+                )
+            )
+        );
+        this.min = min;
+        this.max = max;
+        this.step = step;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt intIterator() {
+        return new org.cactoos.iterator.RangeOfInts(
+            this.min, this.max, this.step
+        );
+    }
+}
@@ -24,6 +24,8 @@
 package org.cactoos.iterable;
 
 import java.util.Comparator;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
 
 /**
  * Sorted iterable.
@@ -80,4 +82,34 @@ public final class Sorted<T> extends IterableEnvelope<T> {
             )
         );
     }
+
+    /**
+     * Ctor.
+     *
+     * <p>At most {@code budget} items are kept in memory while sorting.
+     * The rest are spilled to temporary files in sorted runs, written
+     * with {@code encode} and read back with {@code decode}, and merged
+     * lazily. The iterator is {@link java.io.Closeable}: close it to delete
+     * the temporary files, if the items are not read to the end.</p>
+     *
+     * @param cmp The comparator
+     * @param budget How many items may be kept in memory
+     * @param encode Writes an item to bytes
+     * @param decode Reads an item from its bytes
+     * @param src The underlying iterable
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Sorted(final Comparator<? super T> cmp, final int budget,
+        final Func<? super T, ? extends Bytes> encode,
+        final Func<? super Bytes, ? extends T> decode,
+        final Iterable<? extends T> src) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.Sorted<>(
+                    cmp, budget, encode, decode, src.iterator()
+                )
+            )
+        );
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The highest items seen, in a heap bounded in size.
+ *
+ * <p>The lowest of the kept items is on top of the heap, so a new item
+ * costs one comparison if it doesn't make it and {@code O(log k)} if it
+ * does. Every item is numbered in the order it comes, and of equal items
+ * the earlier one ranks higher, so the result is the same as of a
+ * stable sort.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Element type
+ * @since 1.0
+ */
+final class TopHeap<T> {
+
+    /**
+     * How many items to keep.
+     */
+    private final int size;
+
+    /**
+     * The comparator.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Kept items with their numbers, the lowest one on top.
+     */
+    private final PriorityQueue<Map.Entry<T, Long>> heap;
+
+    /**
+     * How many items were offered.
+     */
+    private long count;
+
+    /**
+     * Ctor.
+     * @param num How many items to keep
+     * @param cmp The comparator
+     */
+    TopHeap(final int num, final Comparator<? super T> cmp) {
+        this.size = num;
+        this.comparator = cmp;
+        this.heap = new PriorityQueue<>(
+            Math.max(1, Math.min(num, 1024)),
+            Comparator.<Map.Entry<T, Long>, T>comparing(Map.Entry::getKey, cmp)
+                .thenComparing(Map.Entry::getValue, Comparator.reverseOrder())
+        );
+    }
+
+    /**
+     * Offer an item.
+     * @param item The item
+     * @return This
+     */
+    TopHeap<T> add(final T item) {
+        this.offer(item, this.count);
+        ++this.count;
+        return this;
+    }
+
+    /**
+     * Offer all items of another heap, which came after these ones.
+     * @param other The heap
+     * @return This
+     */
+    TopHeap<T> add(final TopHeap<T> other) {
+        for (final Map.Entry<T, Long> entry : other.heap) {
+            this.offer(entry.getKey(), this.count + entry.getValue());
+        }
+        this.count += other.count;
+        return this;
+    }
+
+    /**
+     * The kept items, the highest first.
+     * @return The items
+     */
+    List<T> items() {
+        final List<Map.Entry<T, Long>> entries = new ArrayList<>(this.heap);
+        entries.sort(this.heap.comparator().reversed());
+        final List<T> items = new ArrayList<>(entries.size());
+        for (final Map.Entry<T, Long> entry : entries) {
+            items.add(entry.getKey());
+        }
+        return items;
+    }
+
+    /**
+     * Offer an item with its number.
+     * @param item The item
+     * @param number Its number
+     */
+    private void offer(final T item, final long number) {
+        if (this.heap.size() < this.size) {
+            this.heap.add(new AbstractMap.SimpleImmutableEntry<>(item, number));
+        } else if (this.size > 0) {
+            final Map.Entry<T, Long> lowest = this.heap.peek();
+            final int diff = this.comparator.compare(item, lowest.getKey());
+            if (diff > 0 || diff == 0 && number < lowest.getValue()) {
+                this.heap.poll();
+                this.heap.add(
+                    new AbstractMap.SimpleImmutableEntry<>(item, number)
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongPredicate;
+
+/**
+ * Iterator of long values, filtered without boxing.
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FilteredLongs implements PrimitiveIterator.OfLong {
+
+    /**
+     * The predicate.
+     */
+    private final LongPredicate func;
+
+    /**
+     * The origin.
+     */
+    private final PrimitiveIterator.OfLong origin;
+
+    /**
+     * The next value, if {@link #ready}.
+     */
+    private long following;
+
+    /**
+     * Is the next value found?
+     */
+    private boolean ready;
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param iterator The origin
+     */
+    public FilteredLongs(final LongPredicate fnc,
+        final PrimitiveIterator.OfLong iterator) {
+        this.func = fnc;
+        this.origin = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.ready && this.origin.hasNext()) {
+            final long item = this.origin.nextLong();
+            if (this.func.test(item)) {
+                this.following = item;
+                this.ready = true;
+            }
+        }
+        return this.ready;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more elements that fit the condition"
+            );
+        }
+        this.ready = false;
+        return this.following;
+    }
+}
@@ -23,18 +23,20 @@
  */
 package org.cactoos.iterator;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
 
 /**
- * Iterator that returns a set of double values.
+ * Iterator over an array of double values.
  *
- * <p>There is no thread-safety guarantee.
+ * <p>The values are returned without boxing by {@link #nextDouble()}, and
+ * boxed into {@link Double} by {@link #next()}.</p>
  *
- * @since 0.34
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.32
  */
-public final class IteratorOfDoubles implements Iterator<Double> {
+public final class IteratorOfDoubles implements PrimitiveIterator.OfDouble {
 
     /**
      * The list of items to iterate.
@@ -44,7 +46,7 @@ public final class IteratorOfDoubles implements Iterator<Double> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -52,21 +54,22 @@ public final class IteratorOfDoubles implements Iterator<Double> {
      */
     public IteratorOfDoubles(final double... itms) {
         this.items = itms;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
-    public Double next() {
+    public double nextDouble() {
         if (!this.hasNext()) {
             throw new NoSuchElementException(
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        final double item = this.items[this.position];
+        ++this.position;
+        return item;
     }
 }
@@ -23,18 +23,20 @@
  */
 package org.cactoos.iterator;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
 
 /**
- * {@link Iterator} that returns the {@code long}s as {@link Long}s.
+ * Iterator over an array of long values.
+ *
+ * <p>The values are returned without boxing by {@link #nextLong()}, and
+ * boxed into {@link Long} by {@link #next()}.</p>
  *
  * <p>There is no thread-safety guarantee.</p>
  *
- * @since 0.34
+ * @since 0.32
  */
-public final class IteratorOfLongs implements Iterator<Long> {
+public final class IteratorOfLongs implements PrimitiveIterator.OfLong {
 
     /**
      * The list of items to iterate.
@@ -44,7 +46,7 @@ public final class IteratorOfLongs implements Iterator<Long> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -52,21 +54,22 @@ public final class IteratorOfLongs implements Iterator<Long> {
      */
     public IteratorOfLongs(final long... itms) {
         this.items = itms;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
-    public Long next() {
+    public long nextLong() {
         if (!this.hasNext()) {
             throw new NoSuchElementException(
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        final long item = this.items[this.position];
+        ++this.position;
+        return item;
     }
 }
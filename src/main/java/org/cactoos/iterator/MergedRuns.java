@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Items of sorted iterators, merged lazily in one sorted iterator.
+ *
+ * <p>The heads of all runs are kept in a binary heap, so every item
+ * costs {@code O(log k)} comparisons for {@code k} runs. Equal items
+ * come in the order of their runs, so the merge is stable.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Element type
+ * @since 1.0
+ */
+final class MergedRuns<T> implements Iterator<T> {
+
+    /**
+     * The runs, each one sorted.
+     */
+    private final List<? extends Iterator<? extends T>> runs;
+
+    /**
+     * Current head of every run.
+     */
+    private final List<T> heads;
+
+    /**
+     * Indexes of runs that are not over, by their heads.
+     */
+    private final Queue<Integer> queue;
+
+    /**
+     * Were the heads taken already?
+     */
+    private boolean started;
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param src The runs, each one sorted by the comparator
+     */
+    MergedRuns(final Comparator<? super T> cmp,
+        final List<? extends Iterator<? extends T>> src) {
+        this.runs = src;
+        this.heads = new ArrayList<>(src.size());
+        this.queue = new PriorityQueue<>(
+            Math.max(1, src.size()),
+            Comparator.<Integer, T>comparing(this.heads::get, cmp)
+                .thenComparing(Comparator.naturalOrder())
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.heap().isEmpty();
+    }
+
+    @Override
+    public T next() {
+        final Integer run = this.heap().poll();
+        if (run == null) {
+            throw new NoSuchElementException(
+                "No more elements in the merged runs"
+            );
+        }
+        final T item = this.heads.get(run);
+        final Iterator<? extends T> rest = this.runs.get(run);
+        if (rest.hasNext()) {
+            this.heads.set(run, rest.next());
+            this.queue.add(run);
+        }
+        return item;
+    }
+
+    /**
+     * The heap of runs, with the heads taken.
+     * @return The heap
+     */
+    private Queue<Integer> heap() {
+        if (!this.started) {
+            this.started = true;
+            for (int idx = 0; idx < this.runs.size(); ++idx) {
+                final Iterator<? extends T> run = this.runs.get(idx);
+                if (run.hasNext()) {
+                    this.heads.add(run.next());
+                    this.queue.add(idx);
+                } else {
+                    this.heads.add(null);
+                }
+            }
+        }
+        return this.queue;
+    }
+}
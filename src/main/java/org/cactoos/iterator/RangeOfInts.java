@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterator of int values from min to max, both inclusive,
+ * without boxing.
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class RangeOfInts implements PrimitiveIterator.OfInt {
+
+    /**
+     * The next value.
+     */
+    private int current;
+
+    /**
+     * The last value.
+     */
+    private final int max;
+
+    /**
+     * The step, positive.
+     */
+    private final int step;
+
+    /**
+     * Is the last value returned?
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param min Start of the range
+     * @param max End of the range
+     * @param step The step, positive
+     */
+    public RangeOfInts(final int min, final int max, final int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException(
+                String.format("The step must be positive: %d", step)
+            );
+        }
+        this.current = min;
+        this.max = max;
+        this.step = step;
+        this.over = min > max;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.over;
+    }
+
+    @Override
+    public int nextInt() {
+        if (this.over) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        final int value = this.current;
+        final int following = value + this.step;
+        if (following < value || following > this.max) {
+            this.over = true;
+        } else {
+            this.current = following;
+        }
+        return value;
+    }
+}
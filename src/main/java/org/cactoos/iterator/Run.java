@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.io.TempFile;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Items read back from a temporary file, one by one.
+ *
+ * <p>Every item is stored as its length, in four bytes, followed by its
+ * bytes. The file is opened on the first item and deleted after the
+ * last one, or when the run is closed before that.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Element type
+ * @since 1.0
+ */
+final class Run<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * The file.
+     */
+    private final TempFile file;
+
+    /**
+     * Reads an item from its bytes.
+     */
+    private final UncheckedFunc<Bytes, ? extends T> decode;
+
+    /**
+     * Stream of the file, absent until the first item.
+     */
+    private DataInputStream input;
+
+    /**
+     * How many items are left.
+     */
+    private long remaining;
+
+    /**
+     * Is the file deleted?
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param tmp The file
+     * @param count How many items there are in it
+     * @param dec Reads an item from its bytes
+     */
+    Run(final TempFile tmp, final long count,
+        final Func<? super Bytes, ? extends T> dec) {
+        this.file = tmp;
+        this.remaining = count;
+        this.decode = new UncheckedFunc<>(dec::apply);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.remaining > 0L;
+    }
+
+    @Override
+    public T next() {
+        if (this.remaining == 0L) {
+            throw new NoSuchElementException(
+                "The run of sorted items is over"
+            );
+        }
+        final byte[] bytes = new Unchecked<>(
+            () -> {
+                if (this.input == null) {
+                    this.input = new DataInputStream(
+                        new BufferedInputStream(
+                            Files.newInputStream(this.file.value())
+                        )
+                    );
+                }
+                final byte[] read = new byte[this.input.readInt()];
+                this.input.readFully(read);
+                --this.remaining;
+                if (this.remaining == 0L) {
+                    this.close();
+                }
+                return read;
+            }
+        ).value();
+        return this.decode.apply(new BytesOf(bytes));
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.remaining = 0L;
+        if (!this.closed) {
+            this.closed = true;
+            try {
+                if (this.input != null) {
+                    this.input.close();
+                }
+            } finally {
+                this.file.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.io.TempFile;
+
+/**
+ * Items of an iterator, sorted within a memory budget.
+ *
+ * <p>Items are collected into chunks of at most {@code budget} items.
+ * Every full chunk that is followed by more items is sorted and spilled
+ * to a temporary file, the last one stays in memory. If nothing was spilled, the sorted chunk is the
+ * result, otherwise all the runs are merged lazily.</p>
+ *
+ * <p>Every run deletes its file after its last item. The files that are
+ * left, when the items are not read to the end, are deleted on
+ * {@link #close()}, which also happens when sorting fails.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Element type
+ * @since 1.0
+ */
+final class Runs<T> implements Scalar<Iterator<T>>, Closeable {
+
+    /**
+     * The comparator.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * How many items may be kept in memory.
+     */
+    private final int budget;
+
+    /**
+     * Writes an item to bytes.
+     */
+    private final Func<? super T, ? extends Bytes> encode;
+
+    /**
+     * Reads an item from its bytes.
+     */
+    private final Func<? super Bytes, ? extends T> decode;
+
+    /**
+     * The items.
+     */
+    private final Iterator<? extends T> items;
+
+    /**
+     * The runs spilled to files.
+     */
+    private final List<Run<T>> spilled;
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param max How many items may be kept in memory
+     * @param enc Writes an item to bytes
+     * @param dec Reads an item from its bytes
+     * @param src The items
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Runs(final Comparator<? super T> cmp, final int max,
+        final Func<? super T, ? extends Bytes> enc,
+        final Func<? super Bytes, ? extends T> dec,
+        final Iterator<? extends T> src) {
+        this.comparator = cmp;
+        this.budget = max;
+        this.encode = enc;
+        this.decode = dec;
+        this.items = src;
+        this.spilled = new ArrayList<>(0);
+    }
+
+    @Override
+    public Iterator<T> value() throws Exception {
+        if (this.budget < 1) {
+            throw new IllegalArgumentException(
+                String.format("Memory budget %d must be positive", this.budget)
+            );
+        }
+        boolean done = false;
+        try {
+            final Iterator<T> sorted = this.sorted();
+            done = true;
+            return sorted;
+        } finally {
+            if (!done) {
+                this.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException error = null;
+        for (final Run<T> run : this.spilled) {
+            try {
+                run.close();
+            } catch (final IOException ex) {
+                if (error == null) {
+                    error = ex;
+                } else {
+                    error.addSuppressed(ex);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Sort the items.
+     * @return Sorted items
+     * @throws Exception If fails
+     */
+    private Iterator<T> sorted() throws Exception {
+        final List<Iterator<? extends T>> runs = new ArrayList<>(0);
+        final List<T> chunk = new ArrayList<>(Math.min(this.budget, 1024));
+        while (this.items.hasNext()) {
+            chunk.add(this.items.next());
+            if (chunk.size() == this.budget && this.items.hasNext()) {
+                runs.add(this.spilled(chunk));
+                chunk.clear();
+            }
+        }
+        chunk.sort(this.comparator);
+        final Iterator<T> sorted;
+        if (runs.isEmpty()) {
+            sorted = chunk.iterator();
+        } else {
+            runs.add(chunk.iterator());
+            sorted = new MergedRuns<>(this.comparator, runs);
+        }
+        return sorted;
+    }
+
+    /**
+     * Sort a chunk and spill it to a temporary file.
+     * @param chunk The chunk
+     * @return The run, to read it back
+     * @throws Exception If fails
+     */
+    private Iterator<T> spilled(final List<T> chunk) throws Exception {
+        chunk.sort(this.comparator);
+        final TempFile file = new TempFile("cactoos-sorted", ".run");
+        final Run<T> run = new Run<>(file, chunk.size(), this.decode);
+        this.spilled.add(run);
+        try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(file.value()))
+        )) {
+            for (final T item : chunk) {
+                final byte[] bytes = this.encode.apply(item).asBytes();
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+        return run;
+    }
+}
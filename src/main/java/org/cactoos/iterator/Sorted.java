@@ -23,28 +23,42 @@
  */
 package org.cactoos.iterator;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import org.cactoos.Bytes;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
 
 /**
  * Sorted iterator.
  *
+ * <p>It is {@link Closeable}: when it is made with a memory budget and
+ * the items are not read to the end, close it to delete the temporary
+ * files that are left. Otherwise closing does nothing.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <T> Element type
  * @since 0.7
  */
-public final class Sorted<T> implements Iterator<T> {
+public final class Sorted<T> implements Iterator<T>, Closeable {
 
     /**
      * Sorted one.
      */
     private final Unchecked<Iterator<T>> scalar;
 
+    /**
+     * Deletes what is left after sorting.
+     */
+    private final Closeable resources;
+
     /**
      * Ctor.
      *
@@ -64,21 +78,64 @@ public final class Sorted<T> implements Iterator<T> {
      * @param comparator The comparator
      * @param iterator The underlying iterator
      */
-    public Sorted(final Comparator<? super T> comparator, final Iterator<? extends T> iterator) {
-        this.scalar = new Unchecked<>(
-            new Sticky<>(
-                () -> {
-                    final List<T> items = new LinkedList<>();
-                    while (iterator.hasNext()) {
-                        items.add(iterator.next());
-                    }
-                    items.sort(comparator);
-                    return items.iterator();
+    public Sorted(final Comparator<? super T> comparator,
+        final Iterator<? extends T> iterator) {
+        this(
+            () -> {
+                final List<T> items = new ArrayList<>(0);
+                while (iterator.hasNext()) {
+                    items.add(iterator.next());
                 }
-            )
+                items.sort(comparator);
+                return items.iterator();
+            },
+            () -> { }
         );
     }
 
+    /**
+     * Ctor.
+     *
+     * <p>At most {@code budget} items are kept in memory. If there are
+     * more, they are sorted in runs of {@code budget} items, which are
+     * written to temporary files with {@code encode} and merged back
+     * lazily, with {@code decode}. Every file is deleted as soon as all
+     * its items are read, or when this iterator is closed, or when sorting
+     * fails.</p>
+     *
+     * @param comparator The comparator
+     * @param budget How many items may be kept in memory
+     * @param encode Writes an item to bytes
+     * @param decode Reads an item from its bytes
+     * @param iterator The underlying iterator
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Sorted(final Comparator<? super T> comparator, final int budget,
+        final Func<? super T, ? extends Bytes> encode,
+        final Func<? super Bytes, ? extends T> decode,
+        final Iterator<? extends T> iterator) {
+        this(new Runs<>(comparator, budget, encode, decode, iterator));
+    }
+
+    /**
+     * Ctor.
+     * @param runs Sorts the items in runs
+     */
+    private Sorted(final Runs<T> runs) {
+        this(runs, runs);
+    }
+
+    /**
+     * Ctor.
+     * @param sorted Sorts the items
+     * @param rsrc Deletes what is left after sorting
+     */
+    private Sorted(final Scalar<Iterator<T>> sorted, final Closeable rsrc) {
+        this.scalar = new Unchecked<>(new Sticky<>(sorted));
+        this.resources = rsrc;
+    }
+
     @Override
     public boolean hasNext() {
         return this.scalar.value().hasNext();
@@ -88,4 +145,9 @@ public final class Sorted<T> implements Iterator<T> {
     public T next() {
         return this.scalar.value().next();
     }
+
+    @Override
+    public void close() throws IOException {
+        this.resources.close();
+    }
 }
@@ -23,8 +23,10 @@
  */
 package org.cactoos.list;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import org.cactoos.iterable.IterableOf;
 
@@ -44,7 +46,7 @@ public final class ListOf<T> extends ListEnvelope<T> {
      */
     @SafeVarargs
     public ListOf(final T... array) {
-        this(new IterableOf<>(array));
+        this(Arrays.asList(array));
     }
 
     /**
@@ -61,7 +63,20 @@ public final class ListOf<T> extends ListEnvelope<T> {
      * @param src An {@link Iterable}
      */
     public ListOf(final Iterable<? extends T> src) {
-        super(new LinkedList<>());
+        super(new ArrayList<>());
         src.forEach(super::add);
     }
+
+    /**
+     * Ctor.
+     *
+     * <p>The elements are copied at once, into an array of the
+     * right size.</p>
+     *
+     * @param src A {@link Collection}
+     * @since 1.0
+     */
+    public ListOf(final Collection<? extends T> src) {
+        super(new ArrayList<>(src));
+    }
 }
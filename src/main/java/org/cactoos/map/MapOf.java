@@ -23,6 +23,7 @@
  */
 package org.cactoos.map;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import org.cactoos.Func;
@@ -173,19 +174,38 @@ public final class MapOf<X, Y> extends MapEnvelope<X, Y> {
      * @param entries List of the entries
      */
     public MapOf(final Iterable<Map.Entry<? extends X, ? extends Y>> entries) {
-        super(MapOf.make(entries));
+        super(MapOf.make(new HashMap<>(0), entries));
     }
 
     /**
      * Ctor.
+     *
+     * <p>The map is sized for all the entries at once.</p>
+     *
+     * @param entries List of the entries
+     * @since 1.0
+     */
+    public MapOf(
+        final Collection<Map.Entry<? extends X, ? extends Y>> entries
+    ) {
+        super(
+            MapOf.make(
+                new HashMap<>(Math.max((int) (entries.size() / 0.75f) + 1, 16)),
+                entries
+            )
+        );
+    }
+
+    /**
+     * Put the entries into the map.
+     * @param map The map
      * @param entries List of the entries
      * @param <X> Key type
      * @param <Y> Value type
-     * @return Map created
+     * @return The map
      */
-    private static <X, Y> Map<X, Y> make(
+    private static <X, Y> Map<X, Y> make(final Map<X, Y> map,
         final Iterable<Map.Entry<? extends X, ? extends Y>> entries) {
-        final Map<X, Y> map = new HashMap<>(0);
         for (final Map.Entry<? extends X, ? extends Y> entry : entries) {
             map.put(entry.getKey(), entry.getValue());
         }
@@ -23,11 +23,7 @@
  */
 package org.cactoos.number;
 
-import java.math.BigDecimal;
-import java.util.Iterator;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.scalar.ScalarOf;
-import org.cactoos.scalar.Ternary;
 
 /**
  * Average of numbers.
@@ -41,6 +37,11 @@ import org.cactoos.scalar.Ternary;
  * int avg = new AvgOf(numbers).intValue();
  * </pre>
  *
+ * <p>The numbers are summed up the same way as in {@link SumOf}, in one
+ * pass. It is zero if there are no numbers. Floating point numbers take
+ * the exact and slow path of {@link SumOf}; for many doubles, divide
+ * {@link SumOfDoubles} by their count instead.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 1.0.0
@@ -67,22 +68,7 @@ public final class AvgOf extends NumberEnvelope {
     public AvgOf(final Iterable<? extends Number> src) {
         super(
             new NumberOfScalars(
-                new Ternary<>(
-                    new ScalarOf<>(src::iterator),
-                    (Iterator<? extends Number> it) -> it.hasNext(),
-                    it -> {
-                        BigDecimal total = BigDecimal.ZERO;
-                        long qty = 0;
-                        for (final Number value: new IterableOf<>(it)) {
-                            qty += 1;
-                            total = total.add(
-                                new BigDecimal(value.toString())
-                            );
-                        }
-                        return total.divide(BigDecimal.valueOf(qty));
-                    },
-                    it -> BigDecimal.ZERO
-                )
+                () -> new Total().add(src).mean()
             )
         );
     }
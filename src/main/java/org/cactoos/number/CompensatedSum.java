@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+/**
+ * Sum of doubles with Neumaier's compensation of rounding errors.
+ *
+ * <p>The rounding error of every addition is kept apart and added
+ * at the end, so the result doesn't depend on the order of the
+ * values as much as a naive sum does.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class CompensatedSum {
+
+    /**
+     * The sum, without the compensation.
+     */
+    private double sum;
+
+    /**
+     * The sum of rounding errors.
+     */
+    private double compensation;
+
+    /**
+     * The naive sum, to tell overflow from NaN.
+     */
+    private double simple;
+
+    /**
+     * Add a value.
+     * @param value The value
+     * @return This
+     */
+    CompensatedSum add(final double value) {
+        final double total = this.sum + value;
+        if (Math.abs(this.sum) >= Math.abs(value)) {
+            this.compensation += this.sum - total + value;
+        } else {
+            this.compensation += value - total + this.sum;
+        }
+        this.sum = total;
+        this.simple += value;
+        return this;
+    }
+
+    /**
+     * Add another sum.
+     * @param other The sum
+     * @return This
+     */
+    CompensatedSum add(final CompensatedSum other) {
+        final double naive = this.simple + other.simple;
+        this.add(other.sum);
+        this.add(other.compensation);
+        this.simple = naive;
+        return this;
+    }
+
+    /**
+     * The sum.
+     * @return The sum
+     */
+    double value() {
+        double total = this.sum + this.compensation;
+        if (Double.isNaN(total) && Double.isInfinite(this.simple)) {
+            total = this.simple;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.stream.DoubleStream;
+
+/**
+ * Approximate quantiles of doubles, in a merging t-digest.
+ *
+ * <p>Values are buffered and, from time to time, merged into a sorted
+ * list of centroids. A centroid may absorb its neighbour only while its
+ * weight stays below {@code 4 * n * q * (1 - q) / compression}, where
+ * {@code q} is its quantile, so centroids are tiny near the tails and
+ * quantiles there are almost exact, while the memory stays bounded by
+ * the compression factor. Two digests can be
+ * merged, which makes it possible to calculate them in parallel.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Digest {
+
+    /**
+     * Compression factor, the higher the more centroids.
+     */
+    private static final double COMPRESSION = 100.0;
+
+    /**
+     * Size of the buffer of values.
+     */
+    private static final int BUFFER = 512;
+
+    /**
+     * Weights of buffered values.
+     */
+    private static final double[] UNITS = DoubleStream.generate(
+        () -> 1.0
+    ).limit(Digest.BUFFER).toArray();
+
+    /**
+     * Means of the centroids, sorted.
+     */
+    private double[] means;
+
+    /**
+     * Weights of the centroids.
+     */
+    private double[] weights;
+
+    /**
+     * How many centroids there are.
+     */
+    private int centroids;
+
+    /**
+     * Values not merged into centroids yet.
+     */
+    private final double[] buffer;
+
+    /**
+     * How many values are buffered.
+     */
+    private int buffered;
+
+    /**
+     * Total weight.
+     */
+    private double total;
+
+    /**
+     * The lowest value.
+     */
+    private double lowest;
+
+    /**
+     * The highest value.
+     */
+    private double highest;
+
+    /**
+     * Ctor.
+     */
+    Digest() {
+        this.means = new double[0];
+        this.weights = new double[0];
+        this.buffer = new double[Digest.BUFFER];
+        this.lowest = Double.POSITIVE_INFINITY;
+        this.highest = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Add a value.
+     * @param value The value
+     * @return This
+     */
+    Digest add(final double value) {
+        if (this.buffered == this.buffer.length) {
+            this.flush();
+        }
+        this.buffer[this.buffered] = value;
+        ++this.buffered;
+        this.total += 1.0;
+        this.lowest = Math.min(this.lowest, value);
+        this.highest = Math.max(this.highest, value);
+        return this;
+    }
+
+    /**
+     * Add all values of another digest.
+     * @param other The digest
+     * @return This
+     */
+    Digest add(final Digest other) {
+        other.flush();
+        this.flush();
+        this.merge(other.means, other.weights, other.centroids);
+        this.total += other.total;
+        this.lowest = Math.min(this.lowest, other.lowest);
+        this.highest = Math.max(this.highest, other.highest);
+        return this;
+    }
+
+    /**
+     * Approximate quantile.
+     * @param level Quantile level, from 0 to 1
+     * @return The value
+     */
+    double quantile(final double level) {
+        if (level < 0.0 || level > 1.0) {
+            throw new IllegalArgumentException(
+                String.format("Quantile level %s is not in [0, 1]", level)
+            );
+        }
+        this.flush();
+        if (this.centroids == 0) {
+            throw new NoSuchElementException(
+                "Can't find quantile of no values"
+            );
+        }
+        final double target = level * this.total;
+        final int last = this.centroids - 1;
+        double result = Double.NaN;
+        if (target < this.weights[0] / 2.0) {
+            result = this.lowest + (this.means[0] - this.lowest)
+                * target / (this.weights[0] / 2.0);
+        }
+        double left = 0.0;
+        for (int idx = 0; idx < last && Double.isNaN(result); ++idx) {
+            final double center = left + this.weights[idx] / 2.0;
+            final double next = left + this.weights[idx]
+                + this.weights[idx + 1] / 2.0;
+            if (target < next) {
+                result = this.means[idx]
+                    + (this.means[idx + 1] - this.means[idx])
+                    * (target - center) / (next - center);
+            }
+            left += this.weights[idx];
+        }
+        if (Double.isNaN(result)) {
+            final double center = this.total - this.weights[last] / 2.0;
+            result = this.means[last] + (this.highest - this.means[last])
+                * (target - center) / (this.total - center);
+        }
+        return Math.max(this.lowest, Math.min(this.highest, result));
+    }
+
+    /**
+     * Merge buffered values into the centroids.
+     */
+    private void flush() {
+        if (this.buffered > 0) {
+            Arrays.sort(this.buffer, 0, this.buffered);
+            this.merge(this.buffer, Digest.UNITS, this.buffered);
+            this.buffered = 0;
+        }
+    }
+
+    /**
+     * Merge sorted centroids into these ones and compress them.
+     * @param others Means of the centroids
+     * @param mass Weights of the centroids
+     * @param count How many centroids there are
+     */
+    private void merge(final double[] others, final double[] mass,
+        final int count) {
+        final int size = this.centroids + count;
+        final double[] sorted = new double[size];
+        final double[] sizes = new double[size];
+        double whole = 0.0;
+        int mine = 0;
+        int theirs = 0;
+        for (int idx = 0; idx < size; ++idx) {
+            if (theirs == count
+                || mine < this.centroids
+                && this.means[mine] <= others[theirs]) {
+                sorted[idx] = this.means[mine];
+                sizes[idx] = this.weights[mine];
+                ++mine;
+            } else {
+                sorted[idx] = others[theirs];
+                sizes[idx] = mass[theirs];
+                ++theirs;
+            }
+            whole += sizes[idx];
+        }
+        int length = 0;
+        double passed = 0.0;
+        for (int idx = 1; idx < size; ++idx) {
+            final double joint = sizes[length] + sizes[idx];
+            final double center = (passed + joint / 2.0) / whole;
+            if (joint <= 4.0 * whole * center * (1.0 - center)
+                / Digest.COMPRESSION) {
+                sizes[length] += sizes[idx];
+                sorted[length] += (sorted[idx] - sorted[length])
+                    * sizes[idx] / sizes[length];
+            } else {
+                passed += sizes[length];
+                ++length;
+                sorted[length] = sorted[idx];
+                sizes[length] = sizes[idx];
+            }
+        }
+        this.centroids = Math.min(size, length + 1);
+        this.means = sorted;
+        this.weights = sizes;
+    }
+}
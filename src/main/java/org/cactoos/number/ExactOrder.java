@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.Comparator;
+
+/**
+ * Order of numbers by their exact values.
+ *
+ * <p>Integral numbers are compared as {@code long} and doubles as
+ * {@code double}. Other numbers, and numbers of different kinds, are
+ * compared as the {@link java.math.BigDecimal}s that {@link Total} adds
+ * up, so large longs that only differ in the lowest bits are never
+ * taken as equal.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+final class ExactOrder implements Comparator<Number> {
+
+    @Override
+    public int compare(final Number left, final Number right) {
+        final int result;
+        if (ExactOrder.integral(left) && ExactOrder.integral(right)) {
+            result = Long.compare(left.longValue(), right.longValue());
+        } else if (left instanceof Double && right instanceof Double) {
+            result = Double.compare(left.doubleValue(), right.doubleValue());
+        } else {
+            result = new ToDecimal().apply(left).compareTo(
+                new ToDecimal().apply(right)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Is it an integral number, which fits a {@code long}?
+     * @param value The number
+     * @return TRUE if it is
+     */
+    private static boolean integral(final Number value) {
+        return value instanceof Long || value instanceof Integer
+            || value instanceof Short || value instanceof Byte;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.Scalar;
+
+/**
+ * The greatest of numbers, in the given order.
+ *
+ * <p>It is the number itself, not a copy, so nothing is allocated
+ * while looking for it. The first one of equal numbers is taken.
+ * It throws {@link NoSuchElementException} if there are no
+ * numbers.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Extremum implements Scalar<Number> {
+
+    /**
+     * The numbers.
+     */
+    private final Iterable<? extends Number> numbers;
+
+    /**
+     * The order.
+     */
+    private final Comparator<Number> order;
+
+    /**
+     * Ctor.
+     * @param src The numbers
+     * @param cmp The order
+     */
+    Extremum(final Iterable<? extends Number> src,
+        final Comparator<Number> cmp) {
+        this.numbers = src;
+        this.order = cmp;
+    }
+
+    @Override
+    public Number value() {
+        final Iterator<? extends Number> items = this.numbers.iterator();
+        if (!items.hasNext()) {
+            throw new NoSuchElementException(
+                "Can't find first element in an empty iterable"
+            );
+        }
+        Number result = items.next();
+        while (items.hasNext()) {
+            final Number next = items.next();
+            if (this.order.compare(next, result) > 0) {
+                result = next;
+            }
+        }
+        return result;
+    }
+}
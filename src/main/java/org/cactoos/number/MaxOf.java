@@ -23,9 +23,8 @@
  */
 package org.cactoos.number;
 
+import java.util.Comparator;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.scalar.Reduced;
 
 /**
  * Find the greater among items.
@@ -66,22 +65,18 @@ public final class MaxOf extends NumberEnvelope {
     public MaxOf(final Iterable<? extends Number> src) {
         super(
             new NumberOfScalars(
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::longValue, src)
-                ),
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::intValue, src)
-                ),
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::floatValue, src)
-                ),
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::doubleValue, src)
-                )
+                () -> new Extremum(
+                    src, Comparator.comparingLong(Number::longValue)
+                ).value().longValue(),
+                () -> new Extremum(
+                    src, Comparator.comparingInt(Number::intValue)
+                ).value().intValue(),
+                () -> new Extremum(
+                    src, Comparator.comparingDouble(Number::floatValue)
+                ).value().floatValue(),
+                () -> new Extremum(
+                    src, Comparator.comparingDouble(Number::doubleValue)
+                ).value().doubleValue()
             )
         );
     }
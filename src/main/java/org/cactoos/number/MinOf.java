@@ -24,8 +24,6 @@
 package org.cactoos.number;
 
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.scalar.Reduced;
 
 /**
  * Find the smaller among items.
@@ -66,23 +64,45 @@ public final class MinOf extends NumberEnvelope {
     public MinOf(final Iterable<? extends Number> src) {
         super(
             new NumberOfScalars(
-                new Reduced<>(
-                    Math::min,
-                    new Mapped<>((Number n) -> n::longValue, src)
-                ),
-                new Reduced<>(
-                    Math::min,
-                    new Mapped<>((Number n) -> n::intValue, src)
-                ),
-                new Reduced<>(
-                    Math::min,
-                    new Mapped<>((Number n) -> n::floatValue, src)
-                ),
-                new Reduced<>(
-                    Math::min,
-                    new Mapped<>((Number n) -> n::doubleValue, src)
-                )
+                () -> new Extremum(
+                    src, (left, right) -> Long.compare(
+                        right.longValue(), left.longValue()
+                    )
+                ).value().longValue(),
+                () -> new Extremum(
+                    src, (left, right) -> Integer.compare(
+                        right.intValue(), left.intValue()
+                    )
+                ).value().intValue(),
+                () -> new Extremum(
+                    src, (left, right) -> MinOf.lower(
+                        left.floatValue(), right.floatValue()
+                    )
+                ).value().floatValue(),
+                () -> new Extremum(
+                    src, (left, right) -> MinOf.lower(
+                        left.doubleValue(), right.doubleValue()
+                    )
+                ).value().doubleValue()
             )
         );
     }
+
+    /**
+     * Compare two values so that the lower one is greater, like
+     * {@link Math#min(double, double)} does: NaN is lower than any
+     * value and -0.0 is lower than 0.0.
+     * @param left The first value
+     * @param right The second value
+     * @return Positive if the first value is lower
+     */
+    private static int lower(final double left, final double right) {
+        final int result;
+        if (Double.isNaN(left) || Double.isNaN(right)) {
+            result = Boolean.compare(Double.isNaN(left), Double.isNaN(right));
+        } else {
+            result = Double.compare(right, left);
+        }
+        return result;
+    }
 }
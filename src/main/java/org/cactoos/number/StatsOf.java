@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.Folded;
+import org.cactoos.scalar.Mapped;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Statistics of numbers, calculated in one pass.
+ *
+ * <p>Here is how you can use it to describe numbers without iterating
+ * them more than once:</p>
+ *
+ * <pre>
+ * StatsOf stats = new StatsOf(numbers);
+ * long count = stats.count();
+ * double mean = stats.mean().doubleValue();
+ * double deviation = Math.sqrt(stats.variance());
+ * double median = stats.quantile(0.5);
+ * </pre>
+ *
+ * <p>The numbers are iterated on the first call of any method, and
+ * only once. The sum and the mean are calculated the same way as in
+ * {@link SumOf} and {@link AvgOf}. The variance is the population one.
+ * Quantiles are approximate, they are taken from a t-digest, which
+ * is exact for small numbers of values and precise near the tails for
+ * large ones.</p>
+ *
+ * <p>Statistics of parts of the numbers, calculated separately or in
+ * parallel, can be merged into statistics of all of them.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class StatsOf {
+
+    /**
+     * The summary.
+     */
+    private final Unchecked<Summary> summary;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public StatsOf(final Number... src) {
+        this(new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public StatsOf(final Iterable<? extends Number> src) {
+        this(
+            () -> {
+                final Summary sum = new Summary();
+                for (final Number value : src) {
+                    sum.add(value);
+                }
+                return sum;
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The numbers are split into parts, which are described in
+     * parallel, in the pool.</p>
+     *
+     * @param pool The pool
+     * @param src The iterable
+     */
+    public StatsOf(final ForkJoinPool pool,
+        final Iterable<? extends Number> src) {
+        this(
+            new Mapped<>(
+                part -> part.orElseGet(Summary::new),
+                new Folded<Optional<Summary>, Number>(
+                    pool,
+                    Optional.empty(),
+                    (part, value) -> Optional.of(
+                        part.orElseGet(Summary::new).add(value)
+                    ),
+                    (left, right) -> Optional.of(
+                        left.orElseGet(Summary::new).add(
+                            right.orElseGet(Summary::new)
+                        )
+                    ),
+                    src
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param first Statistics of the first part of numbers
+     * @param others Statistics of other parts of numbers
+     */
+    public StatsOf(final StatsOf first, final StatsOf... others) {
+        this(
+            () -> {
+                final Summary sum = new Summary().add(
+                    first.summary.value()
+                );
+                for (final StatsOf other : others) {
+                    sum.add(other.summary.value());
+                }
+                return sum;
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param sum Calculates the summary
+     */
+    private StatsOf(final Scalar<Summary> sum) {
+        this.summary = new Unchecked<>(new Sticky<>(sum));
+    }
+
+    /**
+     * How many numbers there are.
+     * @return The count
+     */
+    public long count() {
+        return this.summary.value().count();
+    }
+
+    /**
+     * The sum of the numbers.
+     * @return The sum
+     */
+    public Number sum() {
+        return this.summary.value().sum();
+    }
+
+    /**
+     * The arithmetic mean of the numbers, zero if there are none.
+     * @return The mean
+     */
+    public Number mean() {
+        return this.summary.value().mean();
+    }
+
+    /**
+     * The lowest of the numbers.
+     * @return The number
+     * @throws java.util.NoSuchElementException If there are no numbers
+     */
+    public Number min() {
+        return this.summary.value().min();
+    }
+
+    /**
+     * The highest of the numbers.
+     * @return The number
+     * @throws java.util.NoSuchElementException If there are no numbers
+     */
+    public Number max() {
+        return this.summary.value().max();
+    }
+
+    /**
+     * The population variance of the numbers, zero if there are none.
+     * @return The variance
+     */
+    public double variance() {
+        return this.summary.value().variance();
+    }
+
+    /**
+     * Approximate quantile of the numbers.
+     * @param level Quantile level, from 0 to 1, e.g. 0.5 for the median
+     * @return The value
+     * @throws java.util.NoSuchElementException If there are no numbers
+     */
+    public double quantile(final double level) {
+        return this.summary.value().quantile(level);
+    }
+}
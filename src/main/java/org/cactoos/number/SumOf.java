@@ -24,6 +24,7 @@
 package org.cactoos.number;
 
 import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.scalar.Folded;
 
@@ -38,6 +39,19 @@ import org.cactoos.scalar.Folded;
  * int sum = new SumOf(numbers).intValue();
  * </pre>
  *
+ * <p>Integral numbers are summed up as {@code long};
+ * {@link BigDecimal} is used only for floating point and decimal
+ * numbers, and on overflow. Floating point numbers are taken exactly
+ * as they are printed, so {@code new SumOf(0.1f)} is {@code 0.1}.
+ * Infinite and NaN values are rejected with
+ * {@link NumberFormatException}.</p>
+ *
+ * <p>This exactness costs a {@link BigDecimal} for every {@link Float}
+ * and {@link Double}, which is much slower than adding doubles. To sum
+ * many doubles fast, use {@link SumOfDoubles}: it adds them as
+ * {@code double}, without boxing, and compensates the rounding
+ * errors.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 1.0.0
@@ -63,11 +77,31 @@ public final class SumOf extends NumberEnvelope {
      * @param src The iterable
      */
     public SumOf(final Iterable<? extends Number> src) {
+        super(
+            new NumberOfScalars(
+                () -> new Total().add(src).sum()
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The numbers are summed up in parallel, in the pool.</p>
+     *
+     * @param pool The pool
+     * @param src The iterable
+     * @since 1.0
+     */
+    public SumOf(final ForkJoinPool pool,
+        final Iterable<? extends Number> src) {
         super(
             new NumberOfScalars(
                 new Folded<>(
+                    pool,
                     BigDecimal.ZERO,
-                    (sum, value) -> sum.add(new BigDecimal(value.toString())),
+                    (sum, value) -> sum.add(new ToDecimal().apply(value)),
+                    BigDecimal::add,
                     src
                 )
             )
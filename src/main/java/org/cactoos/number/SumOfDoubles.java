@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.PrimitiveIterator;
+import org.cactoos.iterable.DoubleIterable;
+import org.cactoos.iterable.IterableOfDoubles;
+
+/**
+ * Sum of double values, calculated without boxing.
+ *
+ * <p>Rounding errors are compensated, with Neumaier's algorithm.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class SumOfDoubles extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -7480231174493352687L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SumOfDoubles(final double... src) {
+        this(new IterableOfDoubles(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SumOfDoubles(final DoubleIterable src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final CompensatedSum sum = new CompensatedSum();
+                    final PrimitiveIterator.OfDouble items =
+                        src.doubleIterator();
+                    while (items.hasNext()) {
+                        sum.add(items.nextDouble());
+                    }
+                    return sum.value();
+                }
+            )
+        );
+    }
+}
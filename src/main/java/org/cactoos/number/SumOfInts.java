@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.PrimitiveIterator;
+import org.cactoos.iterable.IntIterable;
+import org.cactoos.iterable.IterableOfInts;
+
+/**
+ * Sum of int values, calculated without boxing.
+ *
+ * <p>The sum is a {@code long}, so it can't overflow for less than
+ * 2<sup>32</sup> values.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class SumOfInts extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -2376584929127312451L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SumOfInts(final int... src) {
+        this(new IterableOfInts(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SumOfInts(final IntIterable src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    long sum = 0L;
+                    final PrimitiveIterator.OfInt items = src.intIterator();
+                    while (items.hasNext()) {
+                        sum += items.nextInt();
+                    }
+                    return sum;
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * Count, sum, extremes, variance and quantiles of numbers, in one pass.
+ *
+ * <p>The variance is calculated with Welford's algorithm and two
+ * summaries are merged with Chan's formula, so it stays stable for
+ * large numbers of values with a large mean.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Summary {
+
+    /**
+     * Sum and count.
+     */
+    private final Total total;
+
+    /**
+     * Quantiles.
+     */
+    private final Digest digest;
+
+    /**
+     * The order of numbers.
+     */
+    private final Comparator<Number> order;
+
+    /**
+     * The lowest number.
+     */
+    private Number lowest;
+
+    /**
+     * The highest number.
+     */
+    private Number highest;
+
+    /**
+     * Running mean, as double.
+     */
+    private double average;
+
+    /**
+     * Sum of squared deviations from the running mean.
+     */
+    private double squares;
+
+    /**
+     * Ctor.
+     */
+    Summary() {
+        this.total = new Total();
+        this.digest = new Digest();
+        this.order = new ExactOrder();
+    }
+
+    /**
+     * Add a number.
+     * @param value The number
+     * @return This
+     */
+    Summary add(final Number value) {
+        this.total.add(value);
+        final double dbl = value.doubleValue();
+        this.digest.add(dbl);
+        if (this.lowest == null
+            || this.order.compare(value, this.lowest) < 0) {
+            this.lowest = value;
+        }
+        if (this.highest == null
+            || this.order.compare(value, this.highest) > 0) {
+            this.highest = value;
+        }
+        final double delta = dbl - this.average;
+        this.average += delta / this.total.count();
+        this.squares += delta * (dbl - this.average);
+        return this;
+    }
+
+    /**
+     * Add all numbers of another summary.
+     * @param other The summary
+     * @return This
+     */
+    Summary add(final Summary other) {
+        final double mine = this.total.count();
+        final double theirs = other.total.count();
+        if (theirs > 0.0) {
+            final double delta = other.average - this.average;
+            final double both = mine + theirs;
+            this.average += delta * theirs / both;
+            this.squares += other.squares
+                + delta * delta * mine * theirs / both;
+            if (this.lowest == null
+                || this.order.compare(other.lowest, this.lowest) < 0) {
+                this.lowest = other.lowest;
+            }
+            if (this.highest == null
+                || this.order.compare(other.highest, this.highest) > 0) {
+                this.highest = other.highest;
+            }
+            this.total.add(other.total);
+            this.digest.add(other.digest);
+        }
+        return this;
+    }
+
+    /**
+     * How many numbers there are.
+     * @return The count
+     */
+    long count() {
+        return this.total.count();
+    }
+
+    /**
+     * The sum.
+     * @return The sum
+     */
+    Number sum() {
+        return this.total.sum();
+    }
+
+    /**
+     * The arithmetic mean, zero if there are no numbers.
+     * @return The mean
+     */
+    Number mean() {
+        return this.total.mean();
+    }
+
+    /**
+     * The lowest number.
+     * @return The number
+     */
+    Number min() {
+        return this.present(this.lowest);
+    }
+
+    /**
+     * The highest number.
+     * @return The number
+     */
+    Number max() {
+        return this.present(this.highest);
+    }
+
+    /**
+     * Population variance, zero if there are no numbers.
+     * @return The variance
+     */
+    double variance() {
+        final double variance;
+        if (this.total.count() == 0L) {
+            variance = 0.0;
+        } else {
+            variance = this.squares / this.total.count();
+        }
+        return variance;
+    }
+
+    /**
+     * Approximate quantile.
+     * @param level Quantile level, from 0 to 1
+     * @return The value
+     */
+    double quantile(final double level) {
+        return this.digest.quantile(level);
+    }
+
+    /**
+     * The number, if there are any numbers.
+     * @param number The number or NULL
+     * @return The number
+     */
+    private Number present(final Number number) {
+        if (number == null) {
+            throw new NoSuchElementException(
+                "Can't find extremes of no numbers"
+            );
+        }
+        return number;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.cactoos.Func;
+
+/**
+ * Exact {@link BigDecimal} of a number.
+ *
+ * <p>Integral numbers are converted without printing them, other
+ * numbers are parsed from their {@link Object#toString()}.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * @since 1.0
+ */
+final class ToDecimal implements Func<Number, BigDecimal> {
+
+    @Override
+    public BigDecimal apply(final Number value) {
+        final BigDecimal decimal;
+        if (value instanceof BigDecimal) {
+            decimal = (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            decimal = new BigDecimal((BigInteger) value);
+        } else if (value instanceof Long || value instanceof Integer
+            || value instanceof Short || value instanceof Byte) {
+            decimal = BigDecimal.valueOf(value.longValue());
+        } else {
+            decimal = new BigDecimal(value.toString());
+        }
+        return decimal;
+    }
+}
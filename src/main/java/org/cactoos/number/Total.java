@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Sum and count of numbers, calculated in the cheapest exact way.
+ *
+ * <p>Integral numbers are summed up as a {@code long}. A value that
+ * would overflow it goes to a {@link BigDecimal} part instead. Floating
+ * point numbers are added to the {@link BigDecimal} part exactly as they
+ * are printed, so {@code 0.1f} adds up to {@code 0.1}, and so are
+ * {@link BigDecimal}, {@link java.math.BigInteger} and unknown numbers.
+ * Infinite and NaN values are rejected with
+ * {@link NumberFormatException}.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Total {
+
+    /**
+     * Sum of integral numbers.
+     */
+    private long integral;
+
+    /**
+     * Sum of numbers that need exact arithmetic.
+     */
+    private BigDecimal decimal;
+
+    /**
+     * Were there any numbers that need exact arithmetic?
+     */
+    private boolean precise;
+
+    /**
+     * How many numbers were added.
+     */
+    private long count;
+
+    /**
+     * Ctor.
+     */
+    Total() {
+        this.decimal = BigDecimal.ZERO;
+    }
+
+    /**
+     * Add all numbers.
+     * @param values The numbers
+     * @return This
+     */
+    Total add(final Iterable<? extends Number> values) {
+        for (final Number value : values) {
+            this.add(value);
+        }
+        return this;
+    }
+
+    /**
+     * Add a number.
+     * @param value The number
+     * @return This
+     */
+    Total add(final Number value) {
+        if (value instanceof Long || value instanceof Integer
+            || value instanceof Short || value instanceof Byte) {
+            this.add(value.longValue());
+        } else {
+            this.decimal = this.decimal.add(new ToDecimal().apply(value));
+            this.precise = true;
+        }
+        ++this.count;
+        return this;
+    }
+
+    /**
+     * Add another total.
+     * @param other The total
+     * @return This
+     */
+    Total add(final Total other) {
+        this.add(other.integral);
+        if (other.precise) {
+            this.decimal = this.decimal.add(other.decimal);
+            this.precise = true;
+        }
+        this.count += other.count;
+        return this;
+    }
+
+    /**
+     * How many numbers were added.
+     * @return The count
+     */
+    long count() {
+        return this.count;
+    }
+
+    /**
+     * The sum.
+     * @return Long or BigDecimal
+     */
+    Number sum() {
+        final Number sum;
+        if (this.precise) {
+            sum = this.decimal.add(BigDecimal.valueOf(this.integral));
+        } else {
+            sum = this.integral;
+        }
+        return sum;
+    }
+
+    /**
+     * The arithmetic mean, or zero if no numbers were added.
+     * @return Long or BigDecimal
+     */
+    Number mean() {
+        final Number mean;
+        if (this.count == 0L) {
+            mean = 0L;
+        } else if (this.precise) {
+            mean = ((BigDecimal) this.sum()).divide(
+                BigDecimal.valueOf(this.count), MathContext.DECIMAL128
+            );
+        } else if (this.integral % this.count == 0L) {
+            mean = this.integral / this.count;
+        } else {
+            mean = BigDecimal.valueOf(this.integral).divide(
+                BigDecimal.valueOf(this.count), MathContext.DECIMAL128
+            );
+        }
+        return mean;
+    }
+
+    /**
+     * Add an integral number.
+     * @param value The number
+     */
+    private void add(final long value) {
+        final long next = this.integral + value;
+        if (((this.integral ^ next) & (value ^ next)) < 0L) {
+            this.decimal = this.decimal.add(BigDecimal.valueOf(value));
+            this.precise = true;
+        } else {
+            this.integral = next;
+        }
+    }
+}
@@ -23,7 +23,9 @@
  */
 package org.cactoos.proc;
 
+import java.util.concurrent.ExecutorService;
 import org.cactoos.Proc;
+import org.cactoos.experimental.ThreadPerTask;
 import org.cactoos.func.FuncOf;
 import org.cactoos.scalar.AndInThreads;
 
@@ -58,19 +60,39 @@ public final class ForEachInThreads<X> implements Proc<Iterable<X>> {
      */
     private final Proc<X> proc;
 
+    /**
+     * The executor service.
+     */
+    private final ExecutorService service;
+
     /**
      * Ctor.
      *
+     * <p>Every item is processed in a new thread of its own.</p>
+     *
      * @param proc The proc to execute
+     * @see ThreadPerTask
      */
     public ForEachInThreads(final Proc<X> proc) {
+        this(new ThreadPerTask(), proc);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param svc The executor service to process items in
+     * @param proc The proc to execute
+     * @since 1.0
+     */
+    public ForEachInThreads(final ExecutorService svc, final Proc<X> proc) {
+        this.service = svc;
         this.proc = proc;
     }
 
     @Override
     public void exec(final Iterable<X> input) throws Exception {
         new AndInThreads(
-            new FuncOf<>(this.proc, true), input
+            this.service, new FuncOf<>(this.proc, true), input
         ).value();
     }
 
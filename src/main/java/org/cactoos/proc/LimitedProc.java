@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.proc;
+
+import org.cactoos.Func;
+import org.cactoos.Proc;
+import org.cactoos.func.Bulkhead;
+import org.cactoos.func.FuncOf;
+import org.cactoos.func.Limited;
+
+/**
+ * Proc that runs within the limit of concurrent calls of a
+ * {@link Bulkhead}.
+ *
+ * <p>Objects of this class are thread-safe, if the origin proc is.</p>
+ *
+ * @param <X> Type of input
+ * @see Limited
+ * @since 1.0
+ */
+public final class LimitedProc<X> implements Proc<X> {
+
+    /**
+     * The limited func.
+     */
+    private final Func<? super X, Boolean> func;
+
+    /**
+     * Ctor.
+     * @param prc Proc original
+     * @param permits How many calls may be in flight
+     */
+    public LimitedProc(final Proc<? super X> prc, final int permits) {
+        this(prc, new Bulkhead(permits));
+    }
+
+    /**
+     * Ctor.
+     * @param prc Proc original
+     * @param bhd The limit
+     */
+    public LimitedProc(final Proc<? super X> prc, final Bulkhead bhd) {
+        this.func = new Limited<>(new FuncOf<>(prc, true), bhd);
+    }
+
+    @Override
+    public void exec(final X input) throws Exception {
+        this.func.apply(input);
+    }
+}
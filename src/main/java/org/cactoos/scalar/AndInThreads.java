@@ -23,25 +23,27 @@
  */
 package org.cactoos.scalar;
 
-import java.util.Collection;
-import java.util.LinkedList;
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import org.cactoos.Func;
 import org.cactoos.Proc;
 import org.cactoos.Scalar;
+import org.cactoos.experimental.Completed;
+import org.cactoos.experimental.ThreadPerTask;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
-import org.cactoos.text.FormattedText;
 
 /**
  * Logical conjunction, in multiple threads.
  *
  * <p>The usage is same as for {@link And}</p>
  *
+ * <p>The result is known as soon as any item is false, in the order
+ * the items complete. The items that aren't complete yet are cancelled
+ * then. They are cancelled as well when an item fails, and the
+ * exception of that item is thrown.</p>
+ *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -54,22 +56,7 @@ import org.cactoos.text.FormattedText;
  * @see IoChecked
  * @since 0.25
  */
-public final class AndInThreads implements Scalar<Boolean> {
-
-    /**
-     * The service.
-     */
-    private final ExecutorService service;
-
-    /**
-     * The iterator.
-     */
-    private final Iterable<? extends Scalar<Boolean>> iterable;
-
-    /**
-     * Shut down the service when it's done.
-     */
-    private final boolean shut;
+public final class AndInThreads extends ScalarEnvelope<Boolean> {
 
     /**
      * Ctor.
@@ -109,10 +96,14 @@ public final class AndInThreads implements Scalar<Boolean> {
 
     /**
      * Ctor.
+     *
+     * <p>Every item is evaluated in a new thread of its own.</p>
+     *
      * @param src The iterable
+     * @see ThreadPerTask
      */
     public AndInThreads(final Iterable<? extends Scalar<Boolean>> src) {
-        this(Executors.newCachedThreadPool(), src, true);
+        this(new ThreadPerTask(), src);
     }
 
     /**
@@ -201,48 +192,29 @@ public final class AndInThreads implements Scalar<Boolean> {
      */
     public AndInThreads(final ExecutorService svc,
         final Iterable<? extends Scalar<Boolean>> src) {
-        this(svc, src, false);
+        this(new Completed<Boolean>(svc, src));
     }
 
     /**
      * Ctor.
+     *
+     * <p>When the time is out, the items are cancelled and
+     * {@link java.util.concurrent.CancellationException} is thrown.</p>
+     *
      * @param svc Executable service to run thread in
+     * @param timeout The maximum time to wait for the result
      * @param src The iterable
-     * @param sht Shut it down
      */
-    private AndInThreads(final ExecutorService svc,
-        final Iterable<? extends Scalar<Boolean>> src, final boolean sht) {
-        this.service = svc;
-        this.iterable = src;
-        this.shut = sht;
+    public AndInThreads(final ExecutorService svc, final Duration timeout,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(new Completed<Boolean>(svc, timeout, src));
     }
 
-    @Override
-    public Boolean value() throws Exception {
-        final Collection<Future<Boolean>> futures = new LinkedList<>();
-        for (final Scalar<Boolean> item : this.iterable) {
-            futures.add(this.service.submit(item::value));
-        }
-        final boolean result = new And(
-            Future::get,
-            futures
-        ).value();
-        if (this.shut) {
-            this.service.shutdown();
-            try {
-                if (!this.service.awaitTermination(1L, TimeUnit.MINUTES)) {
-                    throw new IllegalStateException(
-                        new FormattedText(
-                            "Can't terminate the service, result=%b",
-                            result
-                        ).asString()
-                    );
-                }
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException(ex);
-            }
-        }
-        return result;
+    /**
+     * Ctor.
+     * @param results Results of the items, in the order of completion
+     */
+    private AndInThreads(final Completed<Boolean> results) {
+        super(new FirstOfInThreads<>(item -> !item, results, new True()));
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.cactoos.Scalar;
+
+/**
+ * Result of a {@link Future}, waiting for it if needed.
+ *
+ * <p>If the computation failed, the exception or the error it threw is
+ * thrown as is, instead of {@link ExecutionException} around it.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of result
+ * @since 1.0
+ */
+public final class Awaited<T> implements Scalar<T> {
+
+    /**
+     * The future.
+     */
+    private final Future<? extends T> future;
+
+    /**
+     * Ctor.
+     * @param ftr The future
+     */
+    public Awaited(final Future<? extends T> ftr) {
+        this.future = ftr;
+    }
+
+    @Override
+    public T value() throws Exception {
+        try {
+            return this.future.get();
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Scalar that caches its value for a limited time.
+ *
+ * <p>Works like {@link Solid}, but the value is calculated again once it
+ * is older than the given time to live:</p>
+ *
+ * <pre>{@code
+ * final Scalar<Config> config = new Expiring<>(
+ *     () -> new Config(new InputOf(path)), Duration.ofMinutes(5L)
+ * );
+ * }</pre>
+ *
+ * <p>In refresh-ahead mode, when the value gets close to its expiration,
+ * the next read submits its recalculation to the given executor and
+ * returns the old value immediately; callers keep getting the old value
+ * until the new one is ready. Only one recalculation runs at a time. If
+ * it fails, the exception goes to the executor, wrapped by
+ * {@link Unchecked}, and the old value is kept until it expires; then the
+ * next caller calculates it synchronously. If the executor rejects the
+ * recalculation, the old value is returned as well, and the next read
+ * submits it again:</p>
+ *
+ * <pre>{@code
+ * final Scalar<Token> token = new Expiring<>(
+ *     () -> new Token(credentials),
+ *     Duration.ofMinutes(10L),
+ *     Duration.ofMinutes(1L),
+ *     executor
+ * );
+ * }</pre>
+ *
+ * <p>{@code null} is a valid value and is cached as well.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of result
+ * @since 1.0
+ */
+public final class Expiring<T> implements Scalar<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Time to live, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * How long before the expiration to refresh, in nanoseconds.
+     */
+    private final long ahead;
+
+    /**
+     * Executor for refreshes ahead of time.
+     */
+    private final Executor executor;
+
+    /**
+     * Cached value with the time it was calculated at.
+     */
+    private final AtomicReference<Map.Entry<Long, T>> cache;
+
+    /**
+     * Whether a refresh is running now.
+     */
+    private final AtomicBoolean refreshing;
+
+    /**
+     * Sync lock.
+     */
+    private final Object lock;
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache
+     * @param ttl Time to live of the value
+     */
+    public Expiring(final Scalar<? extends T> origin, final Duration ttl) {
+        this(origin, ttl, Duration.ZERO, Runnable::run);
+    }
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache
+     * @param ttl Time to live of the value
+     * @param ahead How long before the expiration to start the refresh
+     * @param executor Executor to refresh the value on
+     */
+    public Expiring(final Scalar<? extends T> origin, final Duration ttl,
+        final Duration ahead, final Executor executor) {
+        this.origin = origin;
+        this.ttl = ttl.toNanos();
+        this.ahead = ahead.toNanos();
+        this.executor = executor;
+        this.cache = new AtomicReference<>();
+        this.refreshing = new AtomicBoolean();
+        this.lock = new Object();
+    }
+
+    @Override
+    public T value() throws Exception {
+        Map.Entry<Long, T> entry = this.cache.get();
+        if (entry == null || this.age(entry) >= this.ttl) {
+            synchronized (this.lock) {
+                entry = this.cache.get();
+                if (entry == null || this.age(entry) >= this.ttl) {
+                    entry = this.calculated();
+                    this.cache.set(entry);
+                }
+            }
+        } else if (this.ahead > 0L
+            && this.age(entry) >= this.ttl - this.ahead
+            && this.refreshing.compareAndSet(false, true)) {
+            this.refresh();
+        }
+        return entry.getValue();
+    }
+
+    /**
+     * Start recalculation of the value in the background.
+     *
+     * <p>If the executor rejects it, nothing happens: the cached value
+     * is still valid, and the next read tries again.</p>
+     */
+    private void refresh() {
+        try {
+            this.executor.execute(
+                () -> {
+                    try {
+                        this.cache.set(
+                            new Unchecked<>(this::calculated).value()
+                        );
+                    } finally {
+                        this.refreshing.set(false);
+                    }
+                }
+            );
+        } catch (final RejectedExecutionException ex) {
+            this.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Calculate the value.
+     * @return Value with current time
+     * @throws Exception If fails
+     */
+    private Map.Entry<Long, T> calculated() throws Exception {
+        final T value = this.origin.value();
+        return new MapEntry<>(System.nanoTime(), value);
+    }
+
+    /**
+     * Age of the cached value.
+     * @param entry Value with the time it was calculated at
+     * @return Age in nanoseconds
+     */
+    private long age(final Map.Entry<Long, T> entry) {
+        return System.nanoTime() - entry.getKey();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.experimental.Completed;
+import org.cactoos.experimental.ThreadPerTask;
+
+/**
+ * The first result of tasks executed concurrently, in the order they
+ * complete, that satisfies specified condition.
+ *
+ * <p>It stops waiting as soon as a matching result is there, and the
+ * tasks that aren't complete yet are cancelled. When a task fails, the
+ * others are cancelled too and its own exception is thrown:</p>
+ *
+ * <pre> String mirror = new FirstOfInThreads&lt;&gt;(
+ *     svc,
+ *     url -&gt; !url.isEmpty(),
+ *     new ListOf&lt;Scalar&lt;String&gt;&gt;(first, second, third),
+ *     () -&gt; "none"
+ * ).value();</pre>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of result
+ * @see Completed
+ * @since 1.0
+ */
+public final class FirstOfInThreads<T> implements Scalar<T> {
+
+    /**
+     * Condition for getting the result.
+     */
+    private final Func<? super T, Boolean> condition;
+
+    /**
+     * Results of the tasks, in the order of completion.
+     */
+    private final Completed<? extends T> results;
+
+    /**
+     * Fallback used if no result matches.
+     */
+    private final Scalar<? extends T> fallback;
+
+    /**
+     * Ctor.
+     *
+     * <p>Every task is executed in a new thread of its own.</p>
+     *
+     * @param cond Condition for getting the result
+     * @param tasks The tasks to be executed concurrently
+     * @param fbck Fallback used if no result matches
+     * @see ThreadPerTask
+     */
+    public FirstOfInThreads(
+        final Func<? super T, Boolean> cond,
+        final Iterable<? extends Scalar<? extends T>> tasks,
+        final Scalar<? extends T> fbck
+    ) {
+        this(new ThreadPerTask(), cond, tasks, fbck);
+    }
+
+    /**
+     * Ctor.
+     * @param svc The executor
+     * @param cond Condition for getting the result
+     * @param tasks The tasks to be executed concurrently
+     * @param fbck Fallback used if no result matches
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public FirstOfInThreads(
+        final ExecutorService svc,
+        final Func<? super T, Boolean> cond,
+        final Iterable<? extends Scalar<? extends T>> tasks,
+        final Scalar<? extends T> fbck
+    ) {
+        this(cond, new Completed<T>(svc, tasks), fbck);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>When the time is out, the tasks are cancelled and
+     * {@link java.util.concurrent.CancellationException} is thrown.</p>
+     *
+     * @param svc The executor
+     * @param timeout The maximum time to wait for a matching result
+     * @param cond Condition for getting the result
+     * @param tasks The tasks to be executed concurrently
+     * @param fbck Fallback used if no result matches
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public FirstOfInThreads(
+        final ExecutorService svc,
+        final Duration timeout,
+        final Func<? super T, Boolean> cond,
+        final Iterable<? extends Scalar<? extends T>> tasks,
+        final Scalar<? extends T> fbck
+    ) {
+        this(cond, new Completed<T>(svc, timeout, tasks), fbck);
+    }
+
+    /**
+     * Ctor.
+     * @param cond Condition for getting the result
+     * @param completed Results of the tasks, in the order of completion
+     * @param fbck Fallback used if no result matches
+     */
+    public FirstOfInThreads(
+        final Func<? super T, Boolean> cond,
+        final Completed<? extends T> completed,
+        final Scalar<? extends T> fbck
+    ) {
+        this.condition = cond;
+        this.results = completed;
+        this.fallback = fbck;
+    }
+
+    @Override
+    public T value() throws Exception {
+        return new Unwrapped<T>(this::first).value();
+    }
+
+    /**
+     * The first matching result, or the fallback.
+     * @return The result
+     * @throws Exception If fails
+     */
+    private T first() throws Exception {
+        final Iterator<? extends T> iterator = this.results.iterator();
+        boolean found = false;
+        T result = null;
+        try {
+            while (!found && iterator.hasNext()) {
+                result = iterator.next();
+                found = this.condition.apply(result);
+            }
+        } finally {
+            ((AutoCloseable) iterator).close();
+        }
+        if (!found) {
+            result = this.fallback.value();
+        }
+        return result;
+    }
+}
@@ -23,33 +23,33 @@
  */
 package org.cactoos.scalar;
 
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 import org.cactoos.BiFunc;
-import org.cactoos.Scalar;
 import org.cactoos.iterable.IterableOf;
 
 /**
  * Iterable, which elements are "folded" through the func.
  *
+ * <p>Given a {@link ForkJoinPool} and a combining function, it folds
+ * the iterable in parallel, splitting it by its
+ * {@link java.util.Spliterator}:</p>
+ *
+ * <pre>{@code
+ * new Folded<>(
+ *     ForkJoinPool.commonPool(),
+ *     0L,
+ *     (sum, item) -> sum + heavy(item),
+ *     Long::sum,
+ *     new ListOf<>(items)
+ * ).value();
+ * }</pre>
+ *
  * @param <X> Type of input and output
  * @param <T> Type of element
  * @since 0.30
  */
-public final class Folded<X, T> implements Scalar<X> {
-
-    /**
-     * Original iterable.
-     */
-    private final Iterable<? extends T> iterable;
-
-    /**
-     * Input.
-     */
-    private final X input;
-
-    /**
-     * Func.
-     */
-    private final BiFunc<? super X, ? super T, ? extends X> func;
+public final class Folded<X, T> extends ScalarEnvelope<X> {
 
     /**
      * Ctor.
@@ -71,18 +71,46 @@ public final class Folded<X, T> implements Scalar<X> {
      */
     public Folded(final X ipt, final BiFunc<? super X, ? super T, ? extends X> fnc,
         final Iterable<? extends T> list) {
-        this.iterable = list;
-        this.input = ipt;
-        this.func = fnc;
+        super(
+            () -> {
+                X memo = ipt;
+                for (final T item : list) {
+                    memo = fnc.apply(memo, item);
+                }
+                return memo;
+            }
+        );
     }
 
-    @Override
-    public X value() throws Exception {
-        X memo = this.input;
-        for (final T item : this.iterable) {
-            memo = this.func.apply(memo, item);
-        }
-        return memo;
+    /**
+     * Ctor.
+     *
+     * <p>The items are split into parts, which are folded in the pool,
+     * each starting from {@code ipt}. The results of adjacent parts are
+     * then combined with {@code cmbn}. So {@code cmbn} must be
+     * associative and {@code ipt} must be its identity.</p>
+     *
+     * @param pool The pool
+     * @param ipt Input, the identity of the combining function
+     * @param fnc Func original
+     * @param cmbn Combines the results of two adjacent parts
+     * @param list List of items
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Folded(final ForkJoinPool pool, final X ipt,
+        final BiFunc<? super X, ? super T, ? extends X> fnc,
+        final BiFunc<? super X, ? super X, ? extends X> cmbn,
+        final Iterable<? extends T> list) {
+        super(
+            new ForkJoined<T, X>(
+                pool,
+                list,
+                part -> new Folded<X, T>(
+                    ipt, fnc, new IterableOf<>(Spliterators.iterator(part))
+                ).value(),
+                cmbn::apply
+            )
+        );
     }
-
 }
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Spliterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Result of a calculation over an iterable, split in parts by its
+ * {@link Spliterator} and run in a {@link ForkJoinPool}.
+ *
+ * <p>A sized iterable is split into about four parts per thread of the
+ * pool. An iterable of unknown size is split in batches, into parts of
+ * up to {@link #BATCH} items. The parts are combined in encounter order,
+ * so the combining function must be associative, but not necessarily
+ * commutative.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * @param <T> Type of item
+ * @param <X> Type of result
+ * @since 1.0
+ */
+final class ForkJoined<T, X> implements Scalar<X> {
+
+    /**
+     * Largest part of an iterable of unknown size.
+     */
+    private static final long BATCH = 64L;
+
+    /**
+     * The pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The items.
+     */
+    private final Iterable<? extends T> items;
+
+    /**
+     * Calculates a part sequentially.
+     */
+    private final Func<Spliterator<? extends T>, X> leaf;
+
+    /**
+     * Combines the results of two adjacent parts.
+     */
+    private final BiFunc<X, X, X> combine;
+
+    /**
+     * Ctor.
+     * @param fjp The pool
+     * @param list The items
+     * @param part Calculates a part sequentially
+     * @param cmbn Combines the results of two adjacent parts
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ForkJoined(final ForkJoinPool fjp, final Iterable<? extends T> list,
+        final Func<Spliterator<? extends T>, X> part,
+        final BiFunc<X, X, X> cmbn) {
+        this.pool = fjp;
+        this.items = list;
+        this.leaf = part;
+        this.combine = cmbn;
+    }
+
+    @Override
+    public X value() throws Exception {
+        final Spliterator<? extends T> split = this.items.spliterator();
+        final long threshold;
+        if (split.hasCharacteristics(Spliterator.SIZED)) {
+            threshold = Math.max(
+                1L, split.estimateSize() / (this.pool.getParallelism() * 4L)
+            );
+        } else {
+            threshold = ForkJoined.BATCH;
+        }
+        try {
+            return this.pool.invoke(
+                new SplitTask<>(split, threshold, this.leaf, this.combine)
+            );
+        } catch (final CompletionException ex) {
+            Throwable cause = ex;
+            while (cause instanceof CompletionException
+                && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw ex;
+        }
+    }
+}
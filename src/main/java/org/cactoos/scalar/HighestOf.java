@@ -23,6 +23,7 @@
  */
 package org.cactoos.scalar;
 
+import java.util.concurrent.ForkJoinPool;
 import org.cactoos.Scalar;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
@@ -86,19 +87,38 @@ public final class HighestOf<T extends Comparable<? super T>> extends ScalarEnve
      * @param iterable The items
      */
     public HighestOf(final Iterable<? extends Scalar<? extends T>> iterable) {
-        super(
-            new Reduced<>(
-                (first, second) -> {
-                    final T value;
-                    if (first.compareTo(second) > 0) {
-                        value = first;
-                    } else {
-                        value = second;
-                    }
-                    return value;
-                },
-                iterable
-            )
-        );
+        super(new Reduced<>(HighestOf::higher, iterable));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The items are compared in parallel, in the pool.</p>
+     *
+     * @param pool The pool
+     * @param iterable The items
+     * @since 1.0
+     */
+    public HighestOf(final ForkJoinPool pool,
+        final Iterable<? extends Scalar<? extends T>> iterable) {
+        super(new Reduced<>(pool, HighestOf::higher, iterable));
+    }
+
+    /**
+     * The highest of two items.
+     * @param first The first item
+     * @param second The second item
+     * @param <T> Type of items
+     * @return The first item if it's higher, otherwise the second one
+     */
+    private static <T extends Comparable<? super T>> T higher(final T first,
+        final T second) {
+        final T value;
+        if (first.compareTo(second) > 0) {
+            value = first;
+        } else {
+            value = second;
+        }
+        return value;
     }
 }
@@ -25,6 +25,7 @@ package org.cactoos.scalar;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
@@ -95,6 +96,98 @@ public final class ItemAt<T> implements Scalar<T> {
         final int position,
         final Func<? super Iterable<? extends T>, ? extends T> fallback,
         final Iterable<? extends T> iterable
+    ) {
+        this(
+            position,
+            fallback,
+            pos -> {
+                final Iterator<? extends T> src = iterable.iterator();
+                for (int cur = 0; cur < pos && src.hasNext(); ++cur) {
+                    src.next();
+                }
+                return src;
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The item is taken from the list by its index, without walking
+     * through the items before it.</p>
+     *
+     * @param position Position
+     * @param list List
+     * @since 1.0
+     */
+    public ItemAt(final int position, final List<? extends T> list) {
+        this(
+            position,
+            itr -> {
+                throw new IOException(
+                    new FormattedText(
+                        "The iterable doesn't have the position #%d",
+                        position
+                    ).asString()
+                );
+            },
+            list
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The item is taken from the list by its index, without walking
+     * through the items before it.</p>
+     *
+     * @param position Position
+     * @param fallback Fallback value
+     * @param list List
+     * @since 1.0
+     */
+    public ItemAt(
+        final int position,
+        final T fallback,
+        final List<? extends T> list
+    ) {
+        this(position, new FuncOf<>(new Constant<>(fallback)), list);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The item is taken from the list by its index, without walking
+     * through the items before it.</p>
+     *
+     * @param position Position
+     * @param fallback Fallback value
+     * @param list List
+     * @since 1.0
+     */
+    public ItemAt(
+        final int position,
+        final Func<? super Iterable<? extends T>, ? extends T> fallback,
+        final List<? extends T> list
+    ) {
+        this(
+            position,
+            fallback,
+            pos -> list.listIterator(Math.min(pos, list.size()))
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param position Position
+     * @param fallback Fallback value
+     * @param skipped Iterator over the items from the position on
+     */
+    private ItemAt(
+        final int position,
+        final Func<? super Iterable<? extends T>, ? extends T> fallback,
+        final Func<Integer, Iterator<? extends T>> skipped
     ) {
         this.saved = new Sticky<>(
             () -> {
@@ -106,13 +199,9 @@ public final class ItemAt<T> implements Scalar<T> {
                         ).asString()
                     );
                 }
-                final Iterator<? extends T> src = iterable.iterator();
-                int cur;
-                for (cur = 0; cur < position && src.hasNext(); ++cur) {
-                    src.next();
-                }
+                final Iterator<? extends T> src = skipped.apply(position);
                 final T ret;
-                if (cur == position && src.hasNext()) {
+                if (src.hasNext()) {
                     ret = src.next();
                 } else {
                     ret = fallback.apply(new IterableOf<>(src));
@@ -126,5 +215,4 @@ public final class ItemAt<T> implements Scalar<T> {
     public T value() throws Exception {
         return this.saved.value();
     }
-
 }
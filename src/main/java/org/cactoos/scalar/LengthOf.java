@@ -27,8 +27,12 @@ package org.cactoos.scalar;
 import java.io.InputStream;
 import java.util.Iterator;
 import org.cactoos.Input;
+import org.cactoos.Output;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
+import org.cactoos.io.Buffers;
+import org.cactoos.io.Copied;
+import org.cactoos.io.SharedBuffers;
 
 /**
  * Length.
@@ -80,6 +84,32 @@ public final class LengthOf extends ScalarEnvelope<Long> {
      * @param max Buffer size
      */
     public LengthOf(final Input input, final int max) {
+        this(input, max, new SharedBuffers());
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>Length of the input, copied into the output on the way. Unlike
+     * {@code new LengthOf(new TeeInput(input, output))}, files are copied
+     * by the operating system, without passing through the Java heap.</p>
+     * @param input The input
+     * @param output The output
+     * @see Copied
+     * @since 1.0
+     */
+    public LengthOf(final Input input, final Output output) {
+        this(new Copied(input, output));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param max Buffer size
+     * @param pool The pool to take the buffer from
+     * @since 1.0
+     */
+    public LengthOf(final Input input, final int max, final Buffers pool) {
         this(() -> {
             if (max == 0) {
                 throw new IllegalArgumentException(
@@ -87,16 +117,20 @@ public final class LengthOf extends ScalarEnvelope<Long> {
                 );
             }
             try (InputStream stream = input.stream()) {
-                final byte[] buf = new byte[max];
                 long length = 0L;
-                while (true) {
-                    final int len = stream.read(buf);
-                    if (len > 0) {
-                        length += (long) len;
-                    }
-                    if (len < 0) {
-                        break;
+                final byte[] buf = pool.array(max);
+                try {
+                    while (true) {
+                        final int len = stream.read(buf);
+                        if (len > 0) {
+                            length += (long) len;
+                        }
+                        if (len < 0) {
+                            break;
+                        }
                     }
+                } finally {
+                    pool.release(buf);
                 }
                 return length;
             }
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.Scalar;
+import org.cactoos.func.Bulkhead;
+
+/**
+ * Scalar that runs within the limit of concurrent calls of a
+ * {@link Bulkhead}.
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>Objects of this class are thread-safe, if the origin scalar
+ * is.</p>
+ *
+ * @param <T> Type of result
+ * @see org.cactoos.func.Limited
+ * @since 1.0
+ */
+public final class Limited<T> implements Scalar<T> {
+
+    /**
+     * The origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * The limit.
+     */
+    private final Bulkhead bulkhead;
+
+    /**
+     * Ctor.
+     * @param scalar The origin
+     * @param permits How many calls may be in flight
+     */
+    public Limited(final Scalar<? extends T> scalar, final int permits) {
+        this(scalar, new Bulkhead(permits));
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The origin
+     * @param bhd The limit
+     */
+    public Limited(final Scalar<? extends T> scalar, final Bulkhead bhd) {
+        this.origin = scalar;
+        this.bulkhead = bhd;
+    }
+
+    @Override
+    public T value() throws Exception {
+        return this.bulkhead.call(this.origin);
+    }
+}
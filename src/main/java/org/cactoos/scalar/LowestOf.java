@@ -23,6 +23,7 @@
  */
 package org.cactoos.scalar;
 
+import java.util.concurrent.ForkJoinPool;
 import org.cactoos.Scalar;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
@@ -85,19 +86,38 @@ public final class LowestOf<T extends Comparable<? super T>> extends ScalarEnvel
      * @param iterable The items
      */
     public LowestOf(final Iterable<? extends Scalar<? extends T>> iterable) {
-        super(
-            new Reduced<>(
-                (first, second) -> {
-                    final T value;
-                    if (first.compareTo(second) < 0) {
-                        value = first;
-                    } else {
-                        value = second;
-                    }
-                    return value;
-                },
-                iterable
-            )
-        );
+        super(new Reduced<>(LowestOf::lower, iterable));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The items are compared in parallel, in the pool.</p>
+     *
+     * @param pool The pool
+     * @param iterable The items
+     * @since 1.0
+     */
+    public LowestOf(final ForkJoinPool pool,
+        final Iterable<? extends Scalar<? extends T>> iterable) {
+        super(new Reduced<>(pool, LowestOf::lower, iterable));
+    }
+
+    /**
+     * The lowest of two items.
+     * @param first The first item
+     * @param second The second item
+     * @param <T> Type of items
+     * @return The first item if it's lower, otherwise the second one
+     */
+    private static <T extends Comparable<? super T>> T lower(final T first,
+        final T second) {
+        final T value;
+        if (first.compareTo(second) < 0) {
+            value = first;
+        } else {
+            value = second;
+        }
+        return value;
     }
 }
@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
+import org.cactoos.Proc;
+import org.cactoos.Scalar;
+import org.cactoos.experimental.Completed;
+import org.cactoos.experimental.ThreadPerTask;
+import org.cactoos.func.FuncOf;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+
+/**
+ * Logical disjunction, in multiple threads.
+ *
+ * <p>The usage is same as for {@link Or}</p>
+ *
+ * <p>The result is known as soon as any item is true, in the order
+ * the items complete. The items that aren't complete yet are cancelled
+ * then. They are cancelled as well when an item fails, and the
+ * exception of that item is thrown.</p>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Unchecked
+ * @see IoChecked
+ * @since 1.0
+ */
+public final class OrInThreads extends ScalarEnvelope<Boolean> {
+
+    /**
+     * Ctor.
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    @SafeVarargs
+    public <X> OrInThreads(final Func<? super X, Boolean> func, final X... src) {
+        this(func, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(final Func<? super X, Boolean> func,
+        final Iterable<? extends X> src) {
+        this(
+            new Mapped<>(
+                item -> new ScalarOf<>(() -> func.apply(item)),
+                src
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    @SafeVarargs
+    public OrInThreads(final Scalar<Boolean>... src) {
+        this(new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>Every item is evaluated in a new thread of its own.</p>
+     *
+     * @param src The iterable
+     * @see ThreadPerTask
+     */
+    public OrInThreads(final Iterable<? extends Scalar<Boolean>> src) {
+        this(new ThreadPerTask(), src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param proc Proc to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    @SafeVarargs
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Proc<? super X> proc,
+        final X... src
+    ) {
+        this(svc, new FuncOf<>(proc, false), src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    @SafeVarargs
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Func<? super X, Boolean> func,
+        final X... src
+    ) {
+        this(svc, func, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param proc Proc to use
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Proc<? super X> proc,
+        final Iterable<? extends X> src
+    ) {
+        this(svc, new FuncOf<>(proc, false), src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Func<? super X, Boolean> func,
+        final Iterable<? extends X> src
+    ) {
+        this(
+            svc,
+            new Mapped<>(
+                item -> new ScalarOf<>(() -> func.apply(item)),
+                src
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The iterable
+     */
+    @SafeVarargs
+    public OrInThreads(final ExecutorService svc,
+        final Scalar<Boolean>... src) {
+        this(svc, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The iterable
+     */
+    public OrInThreads(final ExecutorService svc,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(new Completed<Boolean>(svc, src));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>When the time is out, the items are cancelled and
+     * {@link java.util.concurrent.CancellationException} is thrown.</p>
+     *
+     * @param svc Executable service to run thread in
+     * @param timeout The maximum time to wait for the result
+     * @param src The iterable
+     */
+    public OrInThreads(final ExecutorService svc, final Duration timeout,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        this(new Completed<Boolean>(svc, timeout, src));
+    }
+
+    /**
+     * Ctor.
+     * @param results Results of the items, in the order of completion
+     */
+    private OrInThreads(final Completed<Boolean> results) {
+        super(new FirstOfInThreads<>(item -> item, results, new False()));
+    }
+}
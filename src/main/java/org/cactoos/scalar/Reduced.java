@@ -23,10 +23,15 @@
  */
 package org.cactoos.scalar;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 import org.cactoos.BiFunc;
 import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
 
 /**
@@ -61,6 +66,10 @@ import org.cactoos.iterable.Mapped;
  * ).value();
  * }</pre>
  *
+ * <p>Given a {@link ForkJoinPool}, it reduces the iterable in parallel,
+ * splitting it by its {@link java.util.Spliterator}. The function
+ * must be associative then.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * <p>This class implements {@link Scalar}, which throws a checked
@@ -72,17 +81,7 @@ import org.cactoos.iterable.Mapped;
  * @param <T> Scalar type
  * @since 0.30
  */
-public final class Reduced<T> implements Scalar<T> {
-
-    /**
-     * Items.
-     */
-    private final Iterable<? extends Scalar<? extends T>> items;
-
-    /**
-     * Folding function.
-     */
-    private final BiFunc<? super T, ? super T, ? extends T> function;
+public final class Reduced<T> extends ScalarEnvelope<T> {
 
     /**
      * Ctor.
@@ -119,23 +118,80 @@ public final class Reduced<T> implements Scalar<T> {
         final BiFunc<? super T, ? super T, ? extends T> reduce,
         final Iterable<? extends Scalar<? extends T>> scalars
     ) {
-        this.items = scalars;
-        this.function = reduce;
+        super(
+            () -> {
+                final Iterator<? extends Scalar<? extends T>> iter = scalars.iterator();
+                if (!iter.hasNext()) {
+                    throw new NoSuchElementException(
+                        "Can't find first element in an empty iterable"
+                    );
+                }
+                T acc = iter.next().value();
+                while (iter.hasNext()) {
+                    final T next = iter.next().value();
+                    acc = reduce.apply(acc, next);
+                }
+                return acc;
+            }
+        );
     }
 
-    @Override
-    public T value() throws Exception {
-        final Iterator<? extends Scalar<? extends T>> iter = this.items.iterator();
-        if (!iter.hasNext()) {
-            throw new NoSuchElementException(
-                "Can't find first element in an empty iterable"
-            );
-        }
-        T acc = iter.next().value();
-        while (iter.hasNext()) {
-            final T next = iter.next().value();
-            acc = this.function.apply(acc, next);
-        }
-        return acc;
+    /**
+     * Ctor.
+     *
+     * <p>The scalars are split into parts, which are reduced in the pool,
+     * and the results of adjacent parts are reduced again. So the function
+     * must be associative.</p>
+     *
+     * @param pool The pool
+     * @param reduce Reducing function
+     * @param scalars The scalars
+     * @since 1.0
+     */
+    public Reduced(
+        final ForkJoinPool pool,
+        final BiFunc<? super T, ? super T, ? extends T> reduce,
+        final Iterable<? extends Scalar<? extends T>> scalars
+    ) {
+        super(
+            () -> {
+                final List<T> result = new ForkJoined<Scalar<? extends T>, List<T>>(
+                    pool,
+                    scalars,
+                    part -> {
+                        final Iterator<Scalar<? extends T>> iter =
+                            Spliterators.iterator(part);
+                        final List<T> acc;
+                        if (iter.hasNext()) {
+                            acc = Collections.singletonList(
+                                new Reduced<T>(reduce, new IterableOf<>(iter)).value()
+                            );
+                        } else {
+                            acc = Collections.emptyList();
+                        }
+                        return acc;
+                    },
+                    (left, right) -> {
+                        final List<T> acc;
+                        if (left.isEmpty()) {
+                            acc = right;
+                        } else if (right.isEmpty()) {
+                            acc = left;
+                        } else {
+                            acc = Collections.singletonList(
+                                reduce.apply(left.get(0), right.get(0))
+                            );
+                        }
+                        return acc;
+                    }
+                ).value();
+                if (result.isEmpty()) {
+                    throw new NoSuchElementException(
+                        "Can't find first element in an empty iterable"
+                    );
+                }
+                return result.get(0);
+            }
+        );
     }
 }
@@ -23,11 +23,20 @@
  */
 package org.cactoos.scalar;
 
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
 import org.cactoos.Scalar;
 
 /**
  * Cached and synchronized version of a Scalar.
  *
+ * <p>The value is calculated only once, by the first caller. Concurrent
+ * callers wait for it, while callers coming after it is published just
+ * read it, without any locks. The outcome of the calculation is
+ * cached whatever it is: {@code null} is returned as any other value and
+ * an exception is thrown again to every next caller,
+ * without recalculation.</p>
+ *
  * <p>Objects of this class are thread safe.
  *
  * @param <T> Type of result
@@ -43,14 +52,9 @@ public final class Solid<T> implements Scalar<T> {
     private final Scalar<? extends T> origin;
 
     /**
-     * Cache.
-     */
-    private volatile T cache;
-
-    /**
-     * Sync lock.
+     * Calculation, absent until the first call.
      */
-    private final Object lock;
+    private final AtomicReference<FutureTask<T>> cache;
 
     /**
      * Ctor.
@@ -58,18 +62,19 @@ public final class Solid<T> implements Scalar<T> {
      */
     public Solid(final Scalar<? extends T> origin) {
         this.origin = origin;
-        this.lock = new Object();
+        this.cache = new AtomicReference<>();
     }
 
     @Override
     public T value() throws Exception {
-        if (this.cache == null) {
-            synchronized (this.lock) {
-                if (this.cache == null) {
-                    this.cache = this.origin.value();
-                }
+        FutureTask<T> task = this.cache.get();
+        if (task == null) {
+            final FutureTask<T> mine = new FutureTask<>(this.origin::value);
+            if (this.cache.compareAndSet(null, mine)) {
+                mine.run();
             }
+            task = this.cache.get();
         }
-        return this.cache;
+        return new Awaited<>(task).value();
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Spliterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RecursiveTask;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+
+/**
+ * Fork/join task that splits a spliterator until its parts are small
+ * enough, calculates every part sequentially and combines the results
+ * in encounter order.
+ *
+ * <p>Exceptions are thrown wrapped into {@link CompletionException}.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * @param <T> Type of item
+ * @param <X> Type of result
+ * @since 1.0
+ */
+final class SplitTask<T, X> extends RecursiveTask<X> {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -2410834709524375294L;
+
+    /**
+     * The items.
+     */
+    private final transient Spliterator<? extends T> items;
+
+    /**
+     * Size of a part not worth splitting.
+     */
+    private final long threshold;
+
+    /**
+     * Calculates a part sequentially.
+     */
+    private final transient Func<Spliterator<? extends T>, X> leaf;
+
+    /**
+     * Combines the results of two adjacent parts.
+     */
+    private final transient BiFunc<X, X, X> combine;
+
+    /**
+     * Ctor.
+     * @param spltr The items
+     * @param min Size of a part not worth splitting
+     * @param part Calculates a part sequentially
+     * @param cmbn Combines the results of two adjacent parts
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    SplitTask(final Spliterator<? extends T> spltr, final long min,
+        final Func<Spliterator<? extends T>, X> part,
+        final BiFunc<X, X, X> cmbn) {
+        super();
+        this.items = spltr;
+        this.threshold = min;
+        this.leaf = part;
+        this.combine = cmbn;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    protected X compute() {
+        final Spliterator<? extends T> prefix;
+        if (this.items.estimateSize() > this.threshold) {
+            prefix = this.items.trySplit();
+        } else {
+            prefix = null;
+        }
+        try {
+            final X result;
+            if (prefix == null) {
+                result = this.leaf.apply(this.items);
+            } else {
+                final SplitTask<T, X> left = new SplitTask<>(
+                    prefix, this.threshold, this.leaf, this.combine
+                );
+                left.fork();
+                final X right = new SplitTask<>(
+                    this.items, this.threshold, this.leaf, this.combine
+                ).compute();
+                result = this.combine.apply(left.join(), right);
+            }
+            return result;
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new CompletionException(ex);
+        }
+    }
+}
@@ -23,9 +23,10 @@
  */
 package org.cactoos.set;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
-import org.cactoos.iterable.IterableOf;
 
 /**
  * Iterable as {@link Set} based on {@link HashSet}.
@@ -44,7 +45,7 @@ public final class SetOf<T> extends SetEnvelope<T> {
      */
     @SafeVarargs
     public SetOf(final T... array) {
-        this(new IterableOf<>(array));
+        this(Arrays.asList(array));
     }
 
     /**
@@ -55,4 +56,16 @@ public final class SetOf<T> extends SetEnvelope<T> {
         super(new HashSet<>());
         src.forEach(super::add);
     }
+
+    /**
+     * Ctor.
+     *
+     * <p>The set is sized for all the elements at once.</p>
+     *
+     * @param src A {@link Collection}
+     * @since 1.0
+     */
+    public SetOf(final Collection<? extends T> src) {
+        super(new HashSet<>(src));
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.IoCheckedFunc;
+import org.cactoos.scalar.IoChecked;
+
+/**
+ * Reader that transforms its origin a chunk at a time.
+ *
+ * <p>The origin is read into a buffer of a fixed size, and every chunk
+ * read is passed through the transformation, which may keep a part of it
+ * back for the next chunk. At the end of the origin, what is kept back is
+ * asked for. A surrogate pair is never split between two chunks.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class ChunkedReader extends Reader {
+
+    /**
+     * The origin.
+     */
+    private final Reader origin;
+
+    /**
+     * Transformation of a chunk.
+     */
+    private final Func<String, String> chunk;
+
+    /**
+     * What the transformation kept back, at the end.
+     */
+    private final Scalar<String> rest;
+
+    /**
+     * Buffer for reading the origin.
+     */
+    private final char[] buffer;
+
+    /**
+     * High surrogate at the end of the last chunk, or empty.
+     */
+    private String held;
+
+    /**
+     * Transformed characters not yet read.
+     */
+    private String output;
+
+    /**
+     * Position in the output.
+     */
+    private int pos;
+
+    /**
+     * Is the origin over?
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param rdr The origin
+     * @param fnc Transformation of a chunk
+     * @param last What the transformation kept back, at the end
+     * @param size Size of the buffer
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ChunkedReader(final Reader rdr, final Func<String, String> fnc,
+        final Scalar<String> last, final int size) {
+        super();
+        this.origin = rdr;
+        this.chunk = fnc;
+        this.rest = last;
+        this.buffer = new char[size];
+        this.held = "";
+        this.output = "";
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len)
+        throws IOException {
+        while (len > 0 && this.pos == this.output.length() && !this.over) {
+            this.refill();
+        }
+        final int done;
+        if (len == 0) {
+            done = 0;
+        } else if (this.pos == this.output.length()) {
+            done = -1;
+        } else {
+            done = Math.min(len, this.output.length() - this.pos);
+            this.output.getChars(this.pos, this.pos + done, cbuf, off);
+            this.pos += done;
+        }
+        return done;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Read and transform the next chunk of the origin.
+     * @throws IOException If fails
+     */
+    private void refill() throws IOException {
+        final int len = this.origin.read(this.buffer);
+        final IoCheckedFunc<String, String> func =
+            new IoCheckedFunc<>(this.chunk);
+        if (len < 0) {
+            this.over = true;
+            this.output = func.apply(this.held).concat(
+                new IoChecked<>(this.rest).value()
+            );
+            this.held = "";
+        } else {
+            final String text = this.held.concat(
+                new String(this.buffer, 0, len)
+            );
+            final int end = text.length() - 1;
+            if (end >= 0 && Character.isHighSurrogate(text.charAt(end))) {
+                this.held = text.substring(end);
+                this.output = func.apply(text.substring(0, end));
+            } else {
+                this.held = "";
+                this.output = func.apply(text);
+            }
+        }
+        this.pos = 0;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.Input;
+import org.cactoos.Text;
+import org.cactoos.io.ReaderOf;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Lines of a text, read one at a time.
+ *
+ * <p>Only the current line is kept in memory, no matter how long the
+ * text is, which makes it possible to process huge inputs line by line
+ * with any of the {@link Text} decorators:</p>
+ *
+ * <pre>{@code
+ * for (final Text line : new Lines(new InputOf(path))) {
+ *     System.out.println(new Replaced(line, "\\d+", "N").asString());
+ * }
+ * }</pre>
+ *
+ * <p>Lines are separated like in {@link BufferedReader#readLine()}.
+ * The input is opened when the iteration starts and closed after
+ * the last line.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class Lines extends IterableEnvelope<Text> {
+
+    /**
+     * Ctor.
+     * @param input The input
+     */
+    public Lines(final Input input) {
+        this(input, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param charset The charset
+     */
+    public Lines(final Input input, final Charset charset) {
+        super(
+            new IterableOf<>(
+                () -> new LinesIterator(
+                    new BufferedReader(new ReaderOf(input, charset))
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The reader can be iterated only once.</p>
+     * @param reader The reader
+     */
+    public Lines(final Reader reader) {
+        super(
+            new IterableOf<>(
+                () -> new LinesIterator(new BufferedReader(reader))
+            )
+        );
+    }
+}
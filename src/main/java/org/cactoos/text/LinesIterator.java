@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.Text;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Lines of a reader, read one at a time.
+ *
+ * <p>The reader is closed after the last line.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class LinesIterator implements Iterator<Text> {
+
+    /**
+     * The reader.
+     */
+    private final BufferedReader reader;
+
+    /**
+     * The next line, or NULL if it's not read yet.
+     */
+    private String line;
+
+    /**
+     * Is the reader over?
+     */
+    private boolean over;
+
+    /**
+     * Ctor.
+     * @param rdr The reader
+     */
+    LinesIterator(final BufferedReader rdr) {
+        this.reader = rdr;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.line == null && !this.over) {
+            this.line = new Unchecked<>(this::following).value();
+        }
+        return this.line != null;
+    }
+
+    @Override
+    public Text next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("There are no more lines");
+        }
+        final Text text = new TextOf(this.line);
+        this.line = null;
+        return text;
+    }
+
+    /**
+     * Read the next line, and close the reader if there is none.
+     * @return The line or NULL
+     * @throws IOException If fails
+     */
+    private String following() throws IOException {
+        final String next = this.reader.readLine();
+        if (next == null) {
+            this.over = true;
+            this.reader.close();
+        }
+        return next;
+    }
+}
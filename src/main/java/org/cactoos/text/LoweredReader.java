@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Locale;
+
+/**
+ * Reader in lower case, converted while being read.
+ *
+ * <p>Only a chunk of the origin is kept in memory, no matter how long
+ * it is. This is the streaming form of {@link Lowered}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class LoweredReader extends Reader {
+
+    /**
+     * The converting reader.
+     */
+    private final Reader origin;
+
+    /**
+     * Ctor.
+     * @param reader The origin
+     */
+    public LoweredReader(final Reader reader) {
+        this(reader, Locale.ENGLISH);
+    }
+
+    /**
+     * Ctor.
+     * @param reader The origin
+     * @param locale The locale
+     */
+    public LoweredReader(final Reader reader, final Locale locale) {
+        super();
+        this.origin = new ChunkedReader(
+            reader, text -> text.toLowerCase(locale), () -> "", 16 << 10
+        );
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len)
+        throws IOException {
+        return this.origin.read(cbuf, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Pattern;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.SolidFunc;
+
+/**
+ * Compiled regular expression, taken from a cache shared by all
+ * regex-based text decorators.
+ *
+ * <p>The cache keeps up to {@link #MAX} least recently used patterns.
+ * An invalid expression is not cached, its
+ * {@link java.util.regex.PatternSyntaxException} is thrown every
+ * time.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+final class PatternOf implements Scalar<Pattern> {
+
+    /**
+     * Max number of cached patterns.
+     */
+    private static final int MAX = 512;
+
+    /**
+     * The cache of all patterns compiled.
+     */
+    private static final Func<String, Pattern> CACHE =
+        new SolidFunc<>(Pattern::compile, PatternOf.MAX);
+
+    /**
+     * The expression.
+     */
+    private final String regex;
+
+    /**
+     * Ctor.
+     * @param rgx The expression
+     */
+    PatternOf(final String rgx) {
+        this.regex = rgx;
+    }
+
+    @Override
+    public Pattern value() throws Exception {
+        return PatternOf.CACHE.apply(this.regex);
+    }
+}
@@ -139,7 +139,9 @@ public final class Randomized extends TextEnvelope {
                     final StringBuilder builder = new StringBuilder(length);
                     final int bound = chrs.size();
                     for (int index = 0; index < length; index += 1) {
-                        builder.append(chrs.get(rnd.nextInt(bound)));
+                        builder.append(
+                            chrs.get(rnd.nextInt(bound)).charValue()
+                        );
                     }
                     return builder.toString();
                 }
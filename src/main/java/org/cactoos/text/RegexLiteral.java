@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.Text;
+
+/**
+ * The literal string a regular expression matches, if it
+ * matches nothing but a literal string.
+ *
+ * <p>The text is empty when the expression uses any construct of the
+ * regex syntax, so the caller has to go through
+ * {@link java.util.regex.Pattern}. A single metacharacter escaped with a
+ * backslash, like {@code "\\."}, is a literal too.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * @since 1.0
+ */
+final class RegexLiteral implements Text {
+
+    /**
+     * Characters that have a meaning in a regular expression.
+     */
+    private static final String META = ".$|()[{^?*+\\";
+
+    /**
+     * The expression.
+     */
+    private final String regex;
+
+    /**
+     * Ctor.
+     * @param rgx The expression
+     */
+    RegexLiteral(final String rgx) {
+        this.regex = rgx;
+    }
+
+    @Override
+    public String asString() {
+        final String literal;
+        if (this.regex.length() == 2 && this.regex.charAt(0) == '\\'
+            && this.escapable(this.regex.charAt(1))) {
+            literal = this.regex.substring(1);
+        } else if (this.plain()) {
+            literal = this.regex;
+        } else {
+            literal = "";
+        }
+        return literal;
+    }
+
+    /**
+     * Has the expression no special characters at all?
+     * @return TRUE if it's plain
+     */
+    private boolean plain() {
+        boolean plain = true;
+        for (int idx = 0; idx < this.regex.length(); ++idx) {
+            final char chr = this.regex.charAt(idx);
+            if (RegexLiteral.META.indexOf(chr) >= 0
+                || Character.isSurrogate(chr)) {
+                plain = false;
+                break;
+            }
+        }
+        return plain;
+    }
+
+    /**
+     * Does a backslash in front of this character just quote it?
+     * @param chr The character
+     * @return TRUE if it's quoted, FALSE if it's a regex construct
+     */
+    private boolean escapable(final char chr) {
+        return !Character.isSurrogate(chr)
+            && (chr < '0' || chr > '9')
+            && (chr < 'a' || chr > 'z')
+            && (chr < 'A' || chr > 'Z');
+    }
+}
@@ -42,7 +42,10 @@ public final class Replaced extends TextEnvelope {
      * Ctor.
      * <p>
      * Will replace all instances of the substring matched by {@code find}
-     * with {@code replace}.
+     * with {@code replace}. Compiled expressions are cached and shared
+     * by all objects of this class. If {@code find} has no regex
+     * metacharacters and {@code replace} has no group references, the
+     * regex engine is not used at all.
      * @param text The text
      * @param find The regular expression
      * @param replace The replacement string
@@ -52,7 +55,24 @@ public final class Replaced extends TextEnvelope {
         final CharSequence find,
         final CharSequence replace
     ) {
-        this(text, () -> Pattern.compile(find.toString()), matcher -> replace);
+        this(
+            text,
+            str -> {
+                final String regex = find.toString();
+                final String literal = new RegexLiteral(regex).asString();
+                final String repl = replace.toString();
+                final Func<String, String> func;
+                if (literal.isEmpty() || repl.indexOf('$') >= 0
+                    || repl.indexOf('\\') >= 0) {
+                    func = new ReplacedMatches(
+                        new PatternOf(regex), matcher -> repl
+                    );
+                } else {
+                    func = new ReplacedLiteral(literal, repl);
+                }
+                return func.apply(str);
+            }
+        );
     }
 
     /**
@@ -84,22 +104,15 @@ public final class Replaced extends TextEnvelope {
         final Scalar<Pattern> regex,
         final Func<? super Matcher, ? extends CharSequence> func
     ) {
-        super(
-            new Mapped(
-                str -> {
-                    final StringBuffer buffer = new StringBuffer();
-                    final Matcher matcher = regex.value().matcher(str);
-                    while (matcher.find()) {
-                        matcher.appendReplacement(
-                            buffer,
-                            func.apply(matcher).toString()
-                        );
-                    }
-                    matcher.appendTail(buffer);
-                    return buffer.toString();
-                },
-                text
-            )
-        );
+        this(text, new ReplacedMatches(regex, func));
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param func Makes the replaced string
+     */
+    private Replaced(final Text text, final Func<String, String> func) {
+        super(new Mapped(func, text));
     }
 }
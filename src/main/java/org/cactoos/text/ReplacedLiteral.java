@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.Func;
+
+/**
+ * Replace all occurrences of a literal string, without the regex engine.
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * @since 1.0
+ */
+final class ReplacedLiteral implements Func<String, String> {
+
+    /**
+     * What to find, not empty.
+     */
+    private final String target;
+
+    /**
+     * What to put instead.
+     */
+    private final String replacement;
+
+    /**
+     * Ctor.
+     * @param find What to find, not empty
+     * @param replace What to put instead
+     */
+    ReplacedLiteral(final String find, final String replace) {
+        this.target = find;
+        this.replacement = replace;
+    }
+
+    @Override
+    public String apply(final String str) {
+        int found = str.indexOf(this.target);
+        final String result;
+        if (found < 0) {
+            result = str;
+        } else {
+            final StringBuilder out = new StringBuilder(str.length() + 16);
+            int tail = 0;
+            do {
+                out.append(str, tail, found).append(this.replacement);
+                tail = found + this.target.length();
+                found = str.indexOf(this.target, tail);
+            } while (found >= 0);
+            out.append(str, tail, str.length());
+            result = out.toString();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Replace all matches of a regex in a string.
+ *
+ * <p>Does the same as {@link Matcher#appendReplacement(StringBuffer,
+ * String)}, including the {@code $1}, {@code ${name}} and
+ * backslash escapes in the replacement, but into a
+ * {@link StringBuilder}, which takes no locks. A replacement without
+ * {@code $} and backslash is appended as is.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * @since 1.0
+ */
+final class ReplacedMatches implements Func<String, String> {
+
+    /**
+     * The regex.
+     */
+    private final Scalar<Pattern> regex;
+
+    /**
+     * Makes a replacement of a match.
+     */
+    private final Func<? super Matcher, ? extends CharSequence> func;
+
+    /**
+     * Ctor.
+     * @param rgx The regex
+     * @param fnc Makes a replacement of a match
+     */
+    ReplacedMatches(final Scalar<Pattern> rgx,
+        final Func<? super Matcher, ? extends CharSequence> fnc) {
+        this.regex = rgx;
+        this.func = fnc;
+    }
+
+    @Override
+    public String apply(final String str) throws Exception {
+        final Matcher matcher = this.regex.value().matcher(str);
+        final String result;
+        if (matcher.find()) {
+            final StringBuilder out = new StringBuilder(str.length() + 16);
+            int tail = 0;
+            do {
+                out.append(str, tail, matcher.start());
+                this.append(out, matcher, this.func.apply(matcher).toString());
+                tail = matcher.end();
+            } while (matcher.find());
+            out.append(str, tail, str.length());
+            result = out.toString();
+        } else {
+            result = str;
+        }
+        return result;
+    }
+
+    /**
+     * Append a replacement, with group references expanded.
+     * @param out Where to append
+     * @param matcher The matcher
+     * @param replacement The replacement
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     * @checkstyle ExecutableStatementCountCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private void append(final StringBuilder out, final Matcher matcher,
+        final String replacement) {
+        if (replacement.indexOf('$') < 0 && replacement.indexOf('\\') < 0) {
+            out.append(replacement);
+        } else {
+            int cursor = 0;
+            while (cursor < replacement.length()) {
+                final char chr = replacement.charAt(cursor);
+                ++cursor;
+                if (chr == '\\') {
+                    if (cursor == replacement.length()) {
+                        throw new IllegalArgumentException(
+                            "character to be escaped is missing"
+                        );
+                    }
+                    out.append(replacement.charAt(cursor));
+                    ++cursor;
+                } else if (chr == '$') {
+                    cursor = this.group(out, matcher, replacement, cursor);
+                } else {
+                    out.append(chr);
+                }
+            }
+        }
+    }
+
+    /**
+     * Append a group referenced right after a dollar sign.
+     * @param out Where to append
+     * @param matcher The matcher
+     * @param replacement The replacement
+     * @param from Position after the dollar sign
+     * @return Position after the reference
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private int group(final StringBuilder out, final Matcher matcher,
+        final String replacement, final int from) {
+        if (from == replacement.length()) {
+            throw new IllegalArgumentException(
+                "Illegal group reference: group index is missing"
+            );
+        }
+        int cursor = from;
+        final String group;
+        if (replacement.charAt(cursor) == '{') {
+            ++cursor;
+            final int close = replacement.indexOf('}', cursor);
+            if (close < 0) {
+                throw new IllegalArgumentException(
+                    "named capturing group is missing trailing '}'"
+                );
+            }
+            if (close == cursor) {
+                throw new IllegalArgumentException(
+                    "named capturing group has 0 length name"
+                );
+            }
+            group = matcher.group(replacement.substring(cursor, close));
+            cursor = close + 1;
+        } else {
+            int number = replacement.charAt(cursor) - '0';
+            if (number < 0 || number > 9) {
+                throw new IllegalArgumentException("Illegal group reference");
+            }
+            ++cursor;
+            while (cursor < replacement.length()) {
+                final int digit = replacement.charAt(cursor) - '0';
+                if (digit < 0 || digit > 9
+                    || matcher.groupCount() < number * 10 + digit) {
+                    break;
+                }
+                number = number * 10 + digit;
+                ++cursor;
+            }
+            group = matcher.group(number);
+        }
+        if (group != null) {
+            out.append(group);
+        }
+        return cursor;
+    }
+}
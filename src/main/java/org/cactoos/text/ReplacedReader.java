@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader with all occurrences of a string replaced, while being read.
+ *
+ * <p>Occurrences are replaced from left to right, like
+ * {@link String#replace(CharSequence, CharSequence)} does. Only a chunk
+ * of the origin, plus fewer characters than the string is long, are kept
+ * in memory, no matter how long the origin is. To replace by a regular
+ * expression, which can match any number of characters, replace it
+ * in {@link Lines}, one at a time, with {@link Replaced}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ReplacedReader extends Reader {
+
+    /**
+     * The replacing reader.
+     */
+    private final Reader origin;
+
+    /**
+     * The string to replace.
+     */
+    private final String target;
+
+    /**
+     * The replacement.
+     */
+    private final String replacement;
+
+    /**
+     * The end of the last chunk, which may be the start of the target.
+     */
+    private final StringBuilder tail;
+
+    /**
+     * Ctor.
+     * @param reader The origin
+     * @param find The string to replace
+     * @param replace The replacement
+     */
+    public ReplacedReader(final Reader reader, final String find,
+        final String replace) {
+        super();
+        if (find.isEmpty()) {
+            throw new IllegalArgumentException(
+                "The string to replace can't be empty"
+            );
+        }
+        this.target = find;
+        this.replacement = replace;
+        this.tail = new StringBuilder(find.length());
+        this.origin = new ChunkedReader(
+            reader, this::replaced, this.tail::toString, 16 << 10
+        );
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len)
+        throws IOException {
+        return this.origin.read(cbuf, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Replace the target in the chunk, keeping back its end, which may be
+     * the start of the target.
+     * @param chunk The chunk
+     * @return The chunk with the target replaced
+     */
+    private String replaced(final String chunk) {
+        final String text = this.tail.append(chunk).toString();
+        final StringBuilder out = new StringBuilder(text.length());
+        int start = 0;
+        int found = text.indexOf(this.target);
+        while (found >= 0) {
+            out.append(text, start, found).append(this.replacement);
+            start = found + this.target.length();
+            found = text.indexOf(this.target, start);
+        }
+        final int keep = Math.max(
+            start, text.length() - this.target.length() + 1
+        );
+        out.append(text, start, keep);
+        this.tail.setLength(0);
+        this.tail.append(text, keep, text.length());
+        return out.toString();
+    }
+}
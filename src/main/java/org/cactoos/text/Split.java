@@ -26,12 +26,17 @@ package org.cactoos.text;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableEnvelope;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.iterator.IteratorOf;
 
 /**
  * Split the Text.
  *
+ * <p>The tokens are the same as of {@link String#split(String, int)},
+ * but they are found lazily, one at a time, so reading only the first
+ * few of them doesn't cost as much as splitting the whole text. A
+ * delimiter without regex metacharacters, or a single escaped one,
+ * is found without the regex engine. Tokens are views of the text,
+ * copied only when they are printed.</p>
+ *
  * @see String#split(String)
  * @see String#split(String, int)
  * @since 0.9
@@ -121,11 +126,8 @@ public final class Split extends IterableEnvelope<Text> {
      */
     public Split(final Text text, final Text rgx, final int lmt) {
         super(
-            new Mapped<>(
-                TextOf::new,
-                new IterableOf<>(
-                    () -> new IteratorOf<>(text.asString().split(rgx.asString(), lmt))
-                )
+            new IterableOf<>(
+                () -> new SplitIterator(text.asString(), rgx.asString(), lmt)
             )
         );
     }
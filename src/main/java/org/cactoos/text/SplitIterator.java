@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.Text;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Tokens of a string, found one at a time.
+ *
+ * <p>The tokens are exactly those of {@link String#split(String, int)},
+ * including the dropped trailing empty strings when the limit is
+ * zero. Literal delimiters are found with {@link String#indexOf(String,
+ * int)}, without compiling a {@link Pattern}. Every token is a view of
+ * the source string, which is copied only when the token is printed.
+ * Compiled regexes are taken from the cache shared with
+ * {@link Replaced}.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class SplitIterator implements Iterator<Text> {
+
+    /**
+     * The string to split.
+     */
+    private final String source;
+
+    /**
+     * The literal delimiter, or empty if it's a regex.
+     */
+    private final String literal;
+
+    /**
+     * The matcher, made only for a delimiter that is a regex.
+     */
+    private final Unchecked<Matcher> matcher;
+
+    /**
+     * The limit, as in {@link String#split(String, int)}.
+     */
+    private final int limit;
+
+    /**
+     * Where the next token starts.
+     */
+    private int position;
+
+    /**
+     * How many tokens were cut off, including the held back ones.
+     */
+    private int count;
+
+    /**
+     * Empty tokens held back, which are dropped if nothing follows them.
+     */
+    private int empties;
+
+    /**
+     * Is the token between {@link #start} and {@link #end} ready?
+     */
+    private boolean ready;
+
+    /**
+     * Is the last token cut off?
+     */
+    private boolean over;
+
+    /**
+     * Start of the ready token.
+     */
+    private int start;
+
+    /**
+     * End of the ready token.
+     */
+    private int end;
+
+    /**
+     * Start of the delimiter found.
+     */
+    private int found;
+
+    /**
+     * End of the delimiter found.
+     */
+    private int after;
+
+    /**
+     * Ctor.
+     * @param str The string to split
+     * @param rgx The delimiter regex
+     * @param lmt The limit
+     */
+    SplitIterator(final String str, final String rgx, final int lmt) {
+        this.source = str;
+        this.literal = new RegexLiteral(rgx).asString();
+        this.matcher = new Unchecked<>(
+            new Sticky<>(() -> new PatternOf(rgx).value().matcher(str))
+        );
+        this.limit = lmt;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.ready && !this.over) {
+            this.cut();
+            if (this.limit == 0 && this.start == this.end
+                && this.position > 0) {
+                ++this.empties;
+            } else {
+                this.ready = true;
+            }
+        }
+        return this.ready;
+    }
+
+    @Override
+    public Text next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("There are no more tokens");
+        }
+        final Text token;
+        if (this.empties > 0) {
+            --this.empties;
+            token = new TextOfString("");
+        } else {
+            final String str = this.source;
+            final int first = this.start;
+            final int last = this.end;
+            token = new TextOfScalar(() -> str.substring(first, last));
+            this.ready = false;
+        }
+        return token;
+    }
+
+    /**
+     * Cut off the next token.
+     */
+    private void cut() {
+        this.start = this.position;
+        if ((this.limit <= 0 || this.count < this.limit - 1) && this.find()) {
+            this.end = this.found;
+            this.position = this.after;
+        } else {
+            this.end = this.source.length();
+            this.over = true;
+        }
+        ++this.count;
+    }
+
+    /**
+     * Find the next delimiter.
+     * @return TRUE if found
+     */
+    private boolean find() {
+        final boolean success;
+        if (this.literal.isEmpty()) {
+            success = this.match();
+        } else {
+            this.found = this.source.indexOf(this.literal, this.position);
+            this.after = this.found + this.literal.length();
+            success = this.found >= 0;
+        }
+        return success;
+    }
+
+    /**
+     * Find the next match of the regex, skipping an empty one
+     * at the very beginning, like {@link Pattern#split(CharSequence, int)}.
+     * @return TRUE if found
+     */
+    private boolean match() {
+        final Matcher mtr = this.matcher.value();
+        boolean success = mtr.find();
+        if (success && this.position == 0 && mtr.end() == 0) {
+            success = mtr.find();
+        }
+        if (success) {
+            this.found = mtr.start();
+            this.after = mtr.end();
+        }
+        return success;
+    }
+}
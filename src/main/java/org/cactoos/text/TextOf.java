@@ -85,7 +85,7 @@ public final class TextOf extends TextEnvelope {
      * @since 0.13
      */
     public TextOf(final Path path) {
-        this(new InputOf(path));
+        this(new BytesOf(path));
     }
 
     /**
@@ -94,7 +94,7 @@ public final class TextOf extends TextEnvelope {
      * @since 0.13
      */
     public TextOf(final File file) {
-        this(new InputOf(file));
+        this(new BytesOf(file));
     }
 
     /**
@@ -172,7 +172,7 @@ public final class TextOf extends TextEnvelope {
      * @param str The CharSequence
      */
     public TextOf(final CharSequence str) {
-        this(new BytesOf(str));
+        this(new TextOfScalar(() -> str.toString()));
     }
 
     /**
@@ -191,7 +191,7 @@ public final class TextOf extends TextEnvelope {
      * @param chars The chars
      */
     public TextOf(final char... chars) {
-        this(new BytesOf(chars));
+        this(new TextOfScalar(() -> new String(chars)));
     }
 
     /**
@@ -310,7 +310,7 @@ public final class TextOf extends TextEnvelope {
      * @param input The String
      */
     public TextOf(final String input) {
-        this(input, StandardCharsets.UTF_8);
+        this(new TextOfString(input));
     }
 
     /**
@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader without leading and trailing whitespace, trimmed while
+ * being read.
+ *
+ * <p>Whitespace is what {@link String#trim()} removes. Only a chunk
+ * of the origin, plus the whitespace after the last character which
+ * is not whitespace, are kept in memory, no matter how long the origin
+ * is. This is the streaming form of {@link Trimmed}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class TrimmedReader extends Reader {
+
+    /**
+     * The trimming reader.
+     */
+    private final Reader origin;
+
+    /**
+     * Whitespace which is not yet known to be trailing.
+     */
+    private final StringBuilder spaces;
+
+    /**
+     * Was there a character which is not whitespace?
+     */
+    private boolean started;
+
+    /**
+     * Ctor.
+     * @param reader The origin
+     */
+    public TrimmedReader(final Reader reader) {
+        super();
+        this.spaces = new StringBuilder(0);
+        this.origin = new ChunkedReader(
+            reader, this::trimmed, () -> "", 16 << 10
+        );
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len)
+        throws IOException {
+        return this.origin.read(cbuf, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    /**
+     * Trim the chunk, keeping back its whitespace at the end.
+     * @param chunk The chunk
+     * @return The trimmed chunk
+     */
+    private String trimmed(final String chunk) {
+        final StringBuilder out = new StringBuilder(chunk.length());
+        for (int idx = 0; idx < chunk.length(); ++idx) {
+            final char chr = chunk.charAt(idx);
+            if (chr > ' ') {
+                out.append(this.spaces).append(chr);
+                this.spaces.setLength(0);
+                this.started = true;
+            } else if (this.started) {
+                this.spaces.append(chr);
+            }
+        }
+        return out.toString();
+    }
+}
@@ -26,6 +26,7 @@ package org.cactoos.bytes;
 import org.cactoos.io.InputOf;
 import org.cactoos.io.ResourceOf;
 import org.cactoos.io.Sticky;
+import org.cactoos.io.ThreadBuffers;
 import org.cactoos.text.HexOf;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -54,6 +55,21 @@ final class Sha256DigestOfTest {
         ).affirm();
     }
 
+    @Test
+    void checksumWithPooledBuffer() {
+        new Assertion<>(
+            "Can't calculate the SHA-256 checksum reading into a pooled buffer",
+            new HexOf(
+                new Sha256DigestOf(
+                    new InputOf("Hello World!"), 4, new ThreadBuffers()
+                )
+            ),
+            new HasString(
+                "7f83b1657ff1fc53b92dc18148a1d65dfc2d4b1fa3d677284addd200126d9069"
+            )
+        ).affirm();
+    }
+
     @Test
     void checksumOfString() {
         new Assertion<>(
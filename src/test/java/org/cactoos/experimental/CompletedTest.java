@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Completed}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class CompletedTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givesResultsInOrderOfCompletion() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Iterator<String> results = new Completed<String>(
+            new ThreadPerTask(),
+            () -> {
+                latch.await();
+                return "slow";
+            },
+            () -> "fast"
+        ).iterator();
+        final String first = results.next();
+        latch.countDown();
+        new Assertion<>(
+            "Must give the result of the fast task first",
+            new ListOf<>(first, results.next()),
+            new IsEqual<>(new ListOf<>("fast", "slow"))
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givesAllResults() {
+        new Assertion<>(
+            "Must give the results of all tasks",
+            new Completed<Integer>(
+                new ThreadPerTask(), () -> 1, () -> 2, () -> 3
+            ),
+            new HasValues<>(1, 2, 3)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cancelsTasksWhenTimeIsOut() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        new Assertion<>(
+            "Must fail when the time is out",
+            () -> new ListOf<>(
+                new Completed<Integer>(
+                    new ThreadPerTask(),
+                    Duration.ofMillis(100L),
+                    () -> 1,
+                    () -> {
+                        try {
+                            latch.await();
+                        } finally {
+                            latch.countDown();
+                        }
+                        return 2;
+                    }
+                )
+            ),
+            new Throws<>(CancellationException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the slow task",
+            latch.await(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cancelsTasksWhenOneFails() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ExecutorService svc = new ThreadPerTask();
+        new Assertion<>(
+            "Must fail with the failure of the task",
+            () -> new ListOf<>(
+                new Completed<Integer>(
+                    svc,
+                    () -> {
+                        throw new IllegalStateException("broken");
+                    },
+                    () -> {
+                        latch.await();
+                        return 1;
+                    }
+                )
+            ),
+            new Throws<>("broken", IllegalStateException.class)
+        ).affirm();
+        svc.shutdown();
+        new Assertion<>(
+            "Must interrupt the remaining task",
+            svc.awaitTermination(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void wrapsCheckedFailureOnce() {
+        final Scalar<Integer> task = () -> {
+            throw new IOException("lost");
+        };
+        new Assertion<>(
+            "Must wrap the checked exception of the task once",
+            () -> new ListOf<>(
+                new Completed<Integer>(new ThreadPerTask(), task)
+            ),
+            new Throws<>(
+                "java.io.IOException: lost",
+                CompletionException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void doesNotInterruptCallerWhenTaskIsInterrupted() {
+        final Scalar<Integer> task = () -> {
+            throw new InterruptedException("task");
+        };
+        new Assertion<>(
+            "Must wrap the interruption of the task",
+            () -> new ListOf<>(
+                new Completed<Integer>(new ThreadPerTask(), task)
+            ),
+            new Throws<>(
+                "java.lang.InterruptedException: task",
+                CompletionException.class
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must not interrupt the caller",
+            Thread.interrupted(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void cancelsTasksWhenClosed() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ExecutorService svc = new ThreadPerTask();
+        final Iterator<Integer> results = new Completed<>(
+            svc,
+            new ListOf<Scalar<Integer>>(
+                () -> 1,
+                () -> {
+                    latch.await();
+                    return 2;
+                }
+            )
+        ).iterator();
+        results.next();
+        ((AutoCloseable) results).close();
+        svc.shutdown();
+        new Assertion<>(
+            "Must interrupt the remaining task when closed",
+            svc.awaitTermination(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
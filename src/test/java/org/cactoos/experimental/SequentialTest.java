@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Sequential}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SequentialTest {
+
+    @Test
+    void runsTasksInOrder() throws Exception {
+        final ExecutorService svc = new Sequential();
+        final List<Integer> done = new CopyOnWriteArrayList<>();
+        Future<?> last = null;
+        for (int idx = 0; idx < 5; ++idx) {
+            final int num = idx;
+            last = svc.submit(
+                () -> {
+                    if (num == 0) {
+                        TimeUnit.MILLISECONDS.sleep(50L);
+                    }
+                    done.add(num);
+                    return num;
+                }
+            );
+        }
+        last.get();
+        new Assertion<>(
+            "Must run tasks one after another",
+            done,
+            new IsEqual<>(new ListOf<>(0, 1, 2, 3, 4))
+        ).affirm();
+    }
+
+    @Test
+    void endsWorkerWhenIdle() throws Exception {
+        final AtomicReference<Thread> worker = new AtomicReference<>();
+        final ExecutorService svc = new Sequential(
+            task -> {
+                final Thread thread = new Thread(task);
+                worker.set(thread);
+                return thread;
+            }
+        );
+        svc.submit(() -> 1).get();
+        worker.get().join(TimeUnit.MINUTES.toMillis(1L));
+        new Assertion<>(
+            "Must not keep the thread when no tasks are left",
+            worker.get().isAlive(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void runsTasksAfterFailedOne() throws Exception {
+        final ExecutorService svc = new Sequential(
+            task -> {
+                final Thread thread = new Thread(task);
+                thread.setUncaughtExceptionHandler((thr, ex) -> { });
+                return thread;
+            }
+        );
+        svc.execute(
+            () -> {
+                throw new IllegalStateException("broken");
+            }
+        );
+        new Assertion<>(
+            "Must run a task after a failed one",
+            svc.submit(() -> 1).get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void terminatesAfterShutdown() throws Exception {
+        final ExecutorService svc = new Sequential();
+        svc.submit(() -> 1);
+        svc.shutdown();
+        new Assertion<>(
+            "Must terminate when all tasks are done",
+            svc.awaitTermination(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsTasksAfterShutdown() {
+        final ExecutorService svc = new Sequential();
+        svc.shutdown();
+        new Assertion<>(
+            "Must reject a task after shutdown",
+            () -> svc.submit(() -> 1),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.concurrent.ExecutorService;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringEndsWith;
+import org.hamcrest.core.StringStartsWith;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SharedPool}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SharedPoolTest {
+
+    @Test
+    void runsTasksInSharedDaemonThreads() throws Exception {
+        new Assertion<>(
+            "Must run tasks in daemon threads of the shared pool",
+            new SharedPool().submit(
+                () -> String.format(
+                    "%s %b",
+                    Thread.currentThread().getName(),
+                    Thread.currentThread().isDaemon()
+                )
+            ).get(),
+            new AllOf<>(
+                new StringStartsWith("cactoos-pool-"),
+                new StringEndsWith(" true")
+            )
+        ).affirm();
+    }
+
+    @Test
+    void survivesShutdown() throws Exception {
+        final ExecutorService first = new SharedPool();
+        first.shutdown();
+        new Assertion<>(
+            "Must run tasks after another instance was shut down",
+            new SharedPool().submit(() -> first.isShutdown()).get(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+}
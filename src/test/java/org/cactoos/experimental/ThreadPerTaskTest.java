@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.experimental;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ThreadPerTask}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ThreadPerTaskTest {
+
+    @Test
+    void runsEveryTaskInNewThread() throws Exception {
+        final ExecutorService svc = new ThreadPerTask();
+        new Assertion<>(
+            "Must run tasks in different threads",
+            svc.submit(() -> Thread.currentThread().getId()).get(),
+            new IsNot<>(
+                new IsEqual<>(
+                    svc.submit(() -> Thread.currentThread().getId()).get()
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void runsTasksThatWaitForEachOther() throws Exception {
+        final ExecutorService svc = new ThreadPerTask();
+        final CountDownLatch latch = new CountDownLatch(2);
+        for (int idx = 0; idx < 2; ++idx) {
+            svc.execute(
+                () -> {
+                    latch.countDown();
+                    try {
+                        latch.await();
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            );
+        }
+        svc.shutdown();
+        new Assertion<>(
+            "Must terminate when all tasks are done",
+            svc.awaitTermination(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsTasksAfterShutdown() {
+        final ExecutorService svc = new ThreadPerTask();
+        svc.shutdown();
+        new Assertion<>(
+            "Must reject a task after shutdown",
+            () -> svc.submit(() -> 1),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+}
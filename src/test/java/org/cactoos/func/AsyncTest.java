@@ -23,10 +23,14 @@
  */
 package org.cactoos.func;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -126,6 +130,30 @@ final class AsyncTest {
         ).affirm();
     }
 
+    @Test
+    void runsCallsInOrderWithThreadFactory() throws Exception {
+        final List<Integer> done = new CopyOnWriteArrayList<>();
+        final Async<Integer, Boolean> async = new Async<>(
+            input -> {
+                if (input == 0) {
+                    TimeUnit.MILLISECONDS.sleep(50L);
+                }
+                return done.add(input);
+            },
+            Executors.defaultThreadFactory()
+        );
+        Future<Boolean> last = null;
+        for (int idx = 0; idx < 5; ++idx) {
+            last = async.apply(idx);
+        }
+        last.get();
+        new Assertion<>(
+            "Must run calls one after another, in order",
+            done,
+            new IsEqual<>(new ListOf<>(0, 1, 2, 3, 4))
+        ).affirm();
+    }
+
     @Test
     void runsInBackgroundWithExecutorService() {
         final String name = "secret name for thread executor";
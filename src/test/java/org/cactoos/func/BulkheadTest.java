@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.experimental.ThreadPerTask;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Bulkhead}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class BulkheadTest {
+
+    @Test
+    void rejectsCallWhenFull() {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        new Assertion<>(
+            "Must reject the call when the bulkhead is full",
+            () -> bulkhead.call(() -> bulkhead.call(() -> 1)),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void allowsCallsWithinLimit() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(2);
+        new Assertion<>(
+            "Must allow calls within the limit",
+            bulkhead.call(() -> bulkhead.call(() -> 1)),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void waitsForFreePlace() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1, Duration.ofMinutes(1L));
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService svc = new ThreadPerTask();
+        final Future<Integer> first = svc.submit(
+            () -> bulkhead.call(
+                () -> {
+                    entered.countDown();
+                    release.await();
+                    return 1;
+                }
+            )
+        );
+        entered.await();
+        final Future<Integer> second = svc.submit(
+            () -> bulkhead.call(() -> 2)
+        );
+        release.countDown();
+        new Assertion<>(
+            "Must run the waiting call when the place is free",
+            first.get(1L, TimeUnit.MINUTES) + second.get(1L, TimeUnit.MINUTES),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void shrinksLimitOnSlowCalls() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(
+            1, 2, Duration.ofNanos(1L), Duration.ZERO
+        );
+        bulkhead.call(
+            () -> {
+                Thread.sleep(1L);
+                return true;
+            }
+        );
+        new Assertion<>(
+            "Must shrink the limit after a slow call",
+            bulkhead.limit(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void growsLimitOnFastCalls() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(
+            1, 2, Duration.ofMillis(20L), Duration.ZERO
+        );
+        bulkhead.call(
+            () -> {
+                Thread.sleep(50L);
+                return true;
+            }
+        );
+        bulkhead.call(() -> true);
+        new Assertion<>(
+            "Must grow the limit back after a fast call",
+            bulkhead.limit(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void wakesEveryWaiterThatFitsWhenLimitGrows() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(
+            1, 2, Duration.ofMillis(300L), Duration.ofSeconds(5L)
+        );
+        bulkhead.call(
+            () -> {
+                Thread.sleep(400L);
+                return true;
+            }
+        );
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch both = new CountDownLatch(2);
+        final ExecutorService svc = new ThreadPerTask();
+        final Future<Boolean> first = svc.submit(
+            () -> bulkhead.call(
+                () -> {
+                    entered.countDown();
+                    release.await();
+                    return true;
+                }
+            )
+        );
+        entered.await();
+        final Future<Boolean> second = svc.submit(
+            () -> bulkhead.call(
+                () -> {
+                    both.countDown();
+                    return both.await(1L, TimeUnit.SECONDS);
+                }
+            )
+        );
+        final Future<Boolean> third = svc.submit(
+            () -> bulkhead.call(
+                () -> {
+                    both.countDown();
+                    return both.await(1L, TimeUnit.SECONDS);
+                }
+            )
+        );
+        Thread.sleep(100L);
+        release.countDown();
+        new Assertion<>(
+            "Must let both waiting calls in at once when the limit grows",
+            first.get(1L, TimeUnit.MINUTES)
+                && second.get(1L, TimeUnit.MINUTES)
+                && third.get(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsInvalidLimit() {
+        new Assertion<>(
+            "Must reject the limit below one",
+            () -> new Bulkhead(0).call(() -> 1),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
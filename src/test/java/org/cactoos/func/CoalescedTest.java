@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+
+/**
+ * Test case for {@link Coalesced}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class CoalescedTest {
+
+    @Test
+    void callsOnceForManyThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must run in threads",
+            func -> func.apply(1) == 2,
+            new RunsInThreads<>(
+                new Coalesced<Integer, Integer>(
+                    input -> {
+                        calls.incrementAndGet();
+                        TimeUnit.MILLISECONDS.sleep(100L);
+                        return input + 1;
+                    }
+                )
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must call the function only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void sharesFailureWithManyThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must give the same failure to every thread",
+            func -> {
+                boolean failed = false;
+                try {
+                    func.apply("abc");
+                } catch (final IOException ex) {
+                    failed = "broken".equals(ex.getMessage());
+                }
+                return failed;
+            },
+            new RunsInThreads<>(
+                new Coalesced<String, Integer>(
+                    input -> {
+                        calls.incrementAndGet();
+                        TimeUnit.MILLISECONDS.sleep(100L);
+                        throw new IOException("broken");
+                    }
+                )
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must call the function only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCacheResults() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, Integer> func = new Coalesced<>(
+            input -> calls.incrementAndGet()
+        );
+        func.apply("abc");
+        new Assertion<>(
+            "Must call the function again after the call is over",
+            func.apply("abc"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void acceptsNullArgument() throws Exception {
+        new Assertion<>(
+            "Must call the function with null argument",
+            new Coalesced<String, Boolean>(input -> input == null)
+                .apply(null),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
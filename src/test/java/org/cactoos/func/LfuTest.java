@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Lfu}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class LfuTest {
+
+    @Test
+    void evictsLeastFrequentlyUsed() {
+        final Eviction<String> lfu = new Lfu<>();
+        lfu.added("a");
+        lfu.added("b");
+        lfu.added("c");
+        lfu.touched("a");
+        lfu.touched("a");
+        lfu.touched("c");
+        new Assertion<>(
+            "Must evict the key used the smallest number of times",
+            lfu.victim(),
+            new IsEqual<>("b")
+        ).affirm();
+    }
+
+    @Test
+    void evictsOldestAmongEquallyUsed() {
+        final Eviction<String> lfu = new Lfu<>();
+        lfu.added("first");
+        lfu.added("second");
+        lfu.touched("first");
+        lfu.touched("second");
+        new Assertion<>(
+            "Must evict the key used least recently",
+            lfu.victim(),
+            new IsEqual<>("first")
+        ).affirm();
+    }
+
+    @Test
+    void findsLowestFrequencyAfterRemoval() {
+        final Eviction<String> lfu = new Lfu<>();
+        lfu.added("one");
+        lfu.added("two");
+        lfu.added("three");
+        lfu.touched("two");
+        lfu.touched("three");
+        lfu.touched("three");
+        lfu.removed("one");
+        lfu.touched("three");
+        new Assertion<>(
+            "Must evict the least used of remaining keys",
+            lfu.victim(),
+            new IsEqual<>("two")
+        ).affirm();
+    }
+}
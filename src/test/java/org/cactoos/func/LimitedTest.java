@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.Fallback;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Limited}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class LimitedTest {
+
+    @Test
+    void appliesOrigin() throws Exception {
+        new Assertion<>(
+            "Must apply the origin function",
+            new Limited<>((Integer x) -> x * 2, 1).apply(21),
+            new IsEqual<>(42)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWhenSaturated() {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        new Assertion<>(
+            "Must reject the call beyond the limit",
+            () -> new Limited<>(
+                (Integer x) -> new Limited<>(
+                    (Integer y) -> y, bulkhead
+                ).apply(x),
+                bulkhead
+            ).apply(1),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void fallsBackWhenSaturated() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        new Assertion<>(
+            "Must fall back when the call is rejected",
+            new Limited<>(
+                (Integer x) -> new FuncWithFallback<>(
+                    new Limited<>((Integer y) -> y, bulkhead),
+                    new Fallback.From<>(
+                        RejectedExecutionException.class,
+                        exp -> -1
+                    )
+                ).apply(x),
+                bulkhead
+            ).apply(1),
+            new IsEqual<>(-1)
+        ).affirm();
+    }
+}
@@ -23,13 +23,18 @@
  */
 package org.cactoos.func;
 
+import java.io.IOException;
 import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Func;
 import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link SolidFunc}.
@@ -69,4 +74,85 @@ final class SolidFuncTest {
         ).affirm();
     }
 
+    @Test
+    void calculatesOnceForManyThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must run in threads",
+            func -> func.apply(1) == 2,
+            new RunsInThreads<>(
+                new SolidFunc<Integer, Integer>(
+                    input -> {
+                        calls.incrementAndGet();
+                        TimeUnit.MILLISECONDS.sleep(100L);
+                        return input + 1;
+                    }
+                )
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must calculate the value only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCacheFailures() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, Integer> func = new SolidFunc<>(
+            input -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("first call fails");
+                }
+                return input.length();
+            }
+        );
+        new Assertion<>(
+            "Must throw the original exception",
+            () -> func.apply("abc"),
+            new Throws<>("first call fails", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate the value again after failure",
+            func.apply("abc"),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void evictsLeastFrequentlyUsed() throws Exception {
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> new SecureRandom().nextInt(), 2, Lfu::new
+        );
+        final int first = func.apply(1);
+        func.apply(1);
+        final int second = func.apply(2);
+        func.apply(3);
+        new Assertion<>(
+            "Must keep frequently used value",
+            func.apply(1),
+            new IsEqual<>(first)
+        ).affirm();
+        new Assertion<>(
+            "Must evict rarely used value",
+            func.apply(2),
+            new IsNot<>(new IsEqual<>(second))
+        ).affirm();
+    }
+
+    @Test
+    void callsFuncEveryTimeWithZeroBuffer() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Boolean, Integer> func = new SolidFunc<>(
+            input -> calls.incrementAndGet(), 0
+        );
+        func.apply(true);
+        func.apply(true);
+        new Assertion<>(
+            "Must not keep even the last result",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
 }
@@ -24,6 +24,7 @@
 package org.cactoos.func;
 
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Func;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
@@ -88,4 +89,40 @@ final class StickyFuncTest {
         ).affirm();
     }
 
+    @Test
+    void callsFuncEveryTimeWithZeroBuffer() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Boolean, Integer> func = new StickyFunc<>(
+            input -> calls.incrementAndGet(), 0
+        );
+        func.apply(true);
+        func.apply(true);
+        new Assertion<>(
+            "Must not keep even the last result",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> new SecureRandom().nextInt(), 2
+        );
+        final int first = func.apply(1);
+        final int second = func.apply(2);
+        func.apply(1);
+        func.apply(3);
+        new Assertion<>(
+            "Must keep recently used value",
+            func.apply(1),
+            new IsEqual<>(first)
+        ).affirm();
+        new Assertion<>(
+            "Must evict least recently used value",
+            func.apply(2),
+            new IsNot<>(new IsEqual<>(second))
+        ).affirm();
+    }
+
 }
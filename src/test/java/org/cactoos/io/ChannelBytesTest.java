@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringStartsWith;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ChannelBytes}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ChannelBytesTest {
+
+    @Test
+    void readsAllBytes(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("bytes.bin");
+        final byte[] content = new byte[100_000];
+        new Random(0L).nextBytes(content);
+        Files.write(file, content);
+        new Assertion<>(
+            "Must read all bytes of the file",
+            new ChannelBytes(file).asBytes(),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    void readsEmptyFile(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("empty.bin");
+        Files.write(file, new byte[0]);
+        new Assertion<>(
+            "Must read no bytes",
+            new ChannelBytes(file).asBytes().length,
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void failsForAbsentFile(@TempDir final Path dir) {
+        new Assertion<>(
+            "Must fail for absent file",
+            () -> new ChannelBytes(dir.resolve("absent.bin")).asBytes(),
+            new Throws<>(NoSuchFileException.class)
+        ).affirm();
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void readsFileWithoutReportedSize() throws Exception {
+        final Path file = Paths.get("/proc/self/status");
+        new Assertion<>(
+            "Must read the file that reports no size",
+            new TextOf(new ChannelBytes(file)).asString(),
+            new StringStartsWith("Name:")
+        ).affirm();
+    }
+}
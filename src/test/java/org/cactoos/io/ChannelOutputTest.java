@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ChannelOutput}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ChannelOutputTest {
+
+    @Test
+    void writesFileContent(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("a/b/channel.txt");
+        Files.createDirectories(file.getParent());
+        Files.write(
+            file, "old and longer content".getBytes(StandardCharsets.UTF_8)
+        );
+        new LengthOf(
+            new TeeInput(
+                new InputOf("Hello, channel!"),
+                new ChannelOutput(file)
+            )
+        ).value();
+        new Assertion<>(
+            "Must replace the content of the file",
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+            new IsEqual<>("Hello, channel!")
+        ).affirm();
+    }
+
+    @Test
+    void createsParentDirectories(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("x/y/z.txt");
+        new ChannelOutput(file).stream().close();
+        new Assertion<>(
+            "Must create the file in new directories",
+            Files.exists(file),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.cactoos.Bytes;
+import org.cactoos.bytes.BytesOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link Copied}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CopiedTest {
+
+    @Test
+    void copiesFileToFile(@TempDir final Path dir) throws Exception {
+        final byte[] content = CopiedTest.random(300_000);
+        final Path source = dir.resolve("source.bin");
+        final Path target = dir.resolve("target.bin");
+        Files.write(source, content);
+        new Assertion<>(
+            "Must copy all bytes of the file",
+            new Copied(source, target),
+            new HasValue<>((long) content.length)
+        ).affirm();
+        new Assertion<>(
+            "Must write the same bytes to the target file",
+            Files.readAllBytes(target),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    void copiesChannelToChannel(@TempDir final Path dir) throws Exception {
+        final byte[] content = CopiedTest.random(200_000);
+        final Path source = dir.resolve("in.bin");
+        final Path target = dir.resolve("out/out.bin");
+        Files.write(source, content);
+        new Assertion<>(
+            "Must copy all bytes between channels",
+            new Copied(new ChannelInput(source), new ChannelOutput(target)),
+            new HasValue<>((long) content.length)
+        ).affirm();
+        new Assertion<>(
+            "Must write the same bytes through the channel",
+            Files.readAllBytes(target),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    void copiesFileToStream(@TempDir final Path dir) throws Exception {
+        final byte[] content = CopiedTest.random(50_000);
+        final Path source = dir.resolve("file.bin");
+        Files.write(source, content);
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        new Copied(new InputOf(source), new OutputTo(target)).value();
+        new Assertion<>(
+            "Must write the bytes of the file to the stream",
+            target.toByteArray(),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    void copiesStreamToFile(@TempDir final Path dir) throws Exception {
+        final byte[] content = CopiedTest.random(70_000);
+        final Path target = dir.resolve("copy.bin");
+        new Assertion<>(
+            "Must copy all bytes of the stream",
+            new Copied(new InputOf(content), new OutputTo(target)),
+            new HasValue<>((long) content.length)
+        ).affirm();
+        new Assertion<>(
+            "Must write the bytes of the stream to the file",
+            Files.readAllBytes(target),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    void copiesEmptyFile(@TempDir final Path dir) throws Exception {
+        final Path source = dir.resolve("empty.bin");
+        Files.write(source, new byte[0]);
+        new Assertion<>(
+            "Must copy no bytes",
+            new Copied(source, dir.resolve("empty-copy.bin")),
+            new HasValue<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void copiesStreamToStream() throws Exception {
+        final Bytes content = new BytesOf("Hello, друг!");
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        new Copied(new InputOf(content), new OutputTo(target)).value();
+        new Assertion<>(
+            "Must copy the stream through a buffer",
+            target.toByteArray(),
+            new IsEqual<>(content.asBytes())
+        ).affirm();
+    }
+
+    /**
+     * Random bytes.
+     * @param size How many
+     * @return Bytes
+     */
+    private static byte[] random(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
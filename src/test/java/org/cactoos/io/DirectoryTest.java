@@ -27,11 +27,23 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsNull;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasSize;
+import org.llorllale.cactoos.matchers.HasValues;
 
 /**
  * Test case for {@link Directory}.
@@ -70,4 +82,135 @@ public final class DirectoryTest {
             new HasSize(4)
         ).affirm();
     }
+
+    @Test
+    public void limitsDepth() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b/c").toFile().mkdirs();
+        new Assertion<>(
+            "must not go deeper than the limit",
+            new Directory(dir, 2),
+            new HasSize(3)
+        ).affirm();
+    }
+
+    @Test
+    public void filtersByGlob() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b").toFile().mkdirs();
+        Files.write(dir.resolve("a/b/one.txt"), "".getBytes());
+        Files.write(dir.resolve("a/two.txt"), "".getBytes());
+        Files.write(dir.resolve("a/three.bin"), "".getBytes());
+        new Assertion<>(
+            "must iterate only paths matching the glob",
+            new Directory(dir, "**.txt"),
+            new HasValues<>(
+                dir.resolve("a/b/one.txt"), dir.resolve("a/two.txt")
+            )
+        ).affirm();
+        new Assertion<>(
+            "must iterate nothing else",
+            new Directory(dir, "**.txt"),
+            new HasSize(2)
+        ).affirm();
+    }
+
+    @Test
+    public void prunesDirectories() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("skipped/deep").toFile().mkdirs();
+        dir.resolve("kept").toFile().mkdirs();
+        new Assertion<>(
+            "must not walk into a pruned directory",
+            new Directory(
+                dir, Integer.MAX_VALUE, path -> true,
+                path -> path.endsWith("skipped")
+            ),
+            new HasSize(3)
+        ).affirm();
+    }
+
+    @Test
+    public void walksInParallel() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        for (int idx = 0; idx < 20; ++idx) {
+            final Path sub = dir.resolve(String.format("d%d/e", idx));
+            sub.toFile().mkdirs();
+            Files.write(sub.resolve("f"), "".getBytes());
+        }
+        new Assertion<>(
+            "must find every path when walked in parallel",
+            StreamSupport.stream(new Directory(dir).spliterator(), true)
+                .collect(Collectors.toSet()),
+            new IsEqual<>(
+                StreamSupport.stream(new Directory(dir).spliterator(), false)
+                    .collect(Collectors.toSet())
+            )
+        ).affirm();
+        new Assertion<>(
+            "must find all paths",
+            new Directory(dir),
+            new HasSize(61)
+        ).affirm();
+    }
+
+    @Test
+    public void splitsWalkBeforeItStarts() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a").toFile().mkdirs();
+        dir.resolve("b").toFile().mkdirs();
+        new Assertion<>(
+            "must split the entries of the root",
+            new Directory(dir).spliterator().trySplit(),
+            new IsNot<>(new IsNull<>())
+        ).affirm();
+    }
+
+    @Test
+    public void walksSubtreesInDifferentThreads() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        for (int idx = 0; idx < 20; ++idx) {
+            dir.resolve(String.format("d%d/e", idx)).toFile().mkdirs();
+        }
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.submit(
+                () -> StreamSupport.stream(
+                    new Directory(dir).spliterator(), true
+                ).forEach(
+                    path -> {
+                        threads.add(Thread.currentThread());
+                        try {
+                            TimeUnit.MILLISECONDS.sleep(10L);
+                        } catch (final InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                )
+            ).get();
+        } finally {
+            pool.shutdown();
+        }
+        new Assertion<>(
+            "must walk in more than one thread",
+            threads.size(),
+            Matchers.greaterThan(1)
+        ).affirm();
+    }
+
+    @Test
+    public void walksWhileIterating() throws IOException {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("late").toFile().mkdirs();
+        final Iterator<Path> paths = new Directory(dir).iterator();
+        paths.next();
+        Files.write(dir.resolve("late/file"), "".getBytes());
+        paths.next();
+        new Assertion<>(
+            "must list a directory only when it is reached",
+            paths.next(),
+            new IsEqual<>(dir.resolve("late/file"))
+        ).affirm();
+    }
 }
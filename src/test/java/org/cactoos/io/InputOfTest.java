@@ -34,6 +34,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.cactoos.bytes.BytesOf;
+import org.cactoos.text.Repeated;
 import org.cactoos.text.TextOf;
 import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
@@ -262,6 +263,19 @@ final class InputOfTest {
         ).affirm();
     }
 
+    @Test
+    void readsReaderWhileEncoding() throws Exception {
+        final StringReader reader = new StringReader(
+            new Repeated("привет", 100_000).asString()
+        );
+        new InputOf(reader, 1024).stream().read();
+        new Assertion<>(
+            "Must not read more of the reader than the buffer holds",
+            (long) new TextOf(reader).asString().length(),
+            new IsEqual<>(600_000L - 1024L)
+        ).affirm();
+    }
+
     @Test
     void readsStringFromReader() throws Exception {
         final String source = "hello, source!";
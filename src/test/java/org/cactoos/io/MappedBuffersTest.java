@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.text.Joined;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasSize;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link MappedBuffers}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedBuffersTest {
+
+    @Test
+    void splitsFileIntoRegions(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("regions.txt");
+        Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must map file in regions of given size",
+            new MappedBuffers(file, 4),
+            new HasSize(3)
+        ).affirm();
+    }
+
+    @Test
+    void mapsWholeContent(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("content.txt");
+        Files.write(file, "Hello, mapped!".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must map the content of the file",
+            new Joined(
+                "",
+                new Mapped<>(
+                    (ByteBuffer buf) -> StandardCharsets.UTF_8.decode(buf)
+                        .toString(),
+                    new MappedBuffers(file, 5)
+                )
+            ),
+            new IsText("Hello, mapped!")
+        ).affirm();
+    }
+
+    @Test
+    void mapsEmptyFile(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("empty.txt");
+        Files.write(file, new byte[0]);
+        new Assertion<>(
+            "Must map nothing",
+            new MappedBuffers(file).iterator().hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+}
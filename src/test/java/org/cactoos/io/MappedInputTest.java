@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link MappedInput}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedInputTest {
+
+    @Test
+    void readsFileContent(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("mapped.txt");
+        final String content = "Hello, товарищ!";
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must read the content of mapped file",
+            new MappedInput(file),
+            new HasContent(content)
+        ).affirm();
+    }
+
+    @Test
+    void readsEmptyFile(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("nothing.txt");
+        Files.write(file, new byte[0]);
+        new Assertion<>(
+            "Must read nothing",
+            new LengthOf(new MappedInput(file)),
+            new HasValue<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void skipsBytes(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("skip.txt");
+        Files.write(file, "abcdef".getBytes(StandardCharsets.UTF_8));
+        try (InputStream stream = new MappedInput(file).stream()) {
+            stream.skip(4L);
+            new Assertion<>(
+                "Must read the byte after skipped ones",
+                stream.read(),
+                new IsEqual<>((int) 'e')
+            ).affirm();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ThreadBuffers}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ThreadBuffersTest {
+
+    @Test
+    void reusesReleasedArray() {
+        final Buffers pool = new ThreadBuffers();
+        final byte[] array = pool.array(1000);
+        pool.release(array);
+        new Assertion<>(
+            "Must give out the released array again",
+            pool.array(1000),
+            new IsSame<>(array)
+        ).affirm();
+    }
+
+    @Test
+    void givesArrayOfExactSize() {
+        final Buffers pool = new ThreadBuffers();
+        pool.release(pool.array(2000));
+        new Assertion<>(
+            "Must not give out an array of another size",
+            pool.array(1999).length,
+            new IsEqual<>(1999)
+        ).affirm();
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        final ThreadBuffers pool = new ThreadBuffers();
+        final byte[] array = pool.array(3000);
+        pool.release(array);
+        pool.release(pool.array(3000));
+        new Assertion<>(
+            "Must count the take served from the pool",
+            pool.hits(),
+            new IsEqual<>(1L)
+        ).affirm();
+        new Assertion<>(
+            "Must count the take which allocated",
+            pool.misses(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotShareCountsBetweenPools() {
+        final ThreadBuffers first = new ThreadBuffers();
+        final ThreadBuffers second = new ThreadBuffers();
+        first.release(first.array(3000));
+        first.array(3000);
+        second.array(3000);
+        new Assertion<>(
+            "Must not count takes from another pool",
+            second.hits(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotShareArraysBetweenPools() {
+        final Buffers first = new ThreadBuffers();
+        final byte[] array = first.array(3000);
+        first.release(array);
+        new Assertion<>(
+            "Must not give out an array released to another pool",
+            new ThreadBuffers().array(3000),
+            new IsNot<>(new IsSame<>(array))
+        ).affirm();
+    }
+
+    @Test
+    void dropsOldestArraysOverByteBudget() {
+        final Buffers pool = new ThreadBuffers(4, 100, 150L, false);
+        final byte[] older = pool.array(100);
+        final byte[] newer = pool.array(100);
+        pool.release(older);
+        pool.release(newer);
+        new Assertion<>(
+            "Must keep the most recently released array",
+            pool.array(100),
+            new IsSame<>(newer)
+        ).affirm();
+        new Assertion<>(
+            "Must drop the array over the byte budget",
+            pool.array(100),
+            new IsNot<>(new IsSame<>(older))
+        ).affirm();
+    }
+
+    @Test
+    void dropsArraysToKeepBuffersInByteBudget() {
+        final Buffers pool = new ThreadBuffers(4, 100, 150L, false);
+        final byte[] array = pool.array(100);
+        pool.release(array);
+        pool.release(pool.buffer(100));
+        new Assertion<>(
+            "Must drop the array to keep the buffer",
+            pool.array(100),
+            new IsNot<>(new IsSame<>(array))
+        ).affirm();
+    }
+
+    @Test
+    void doesNotKeepLargeArrays() {
+        final Buffers pool = new ThreadBuffers(4, 100, false);
+        final byte[] array = pool.array(101);
+        pool.release(array);
+        new Assertion<>(
+            "Must not keep an array larger than allowed",
+            pool.array(101),
+            new IsNot<>(new IsSame<>(array))
+        ).affirm();
+    }
+
+    @Test
+    void doesNotShareArraysBetweenThreads() throws Exception {
+        final Buffers pool = new ThreadBuffers();
+        final byte[] array = pool.array(4000);
+        pool.release(array);
+        final AtomicReference<byte[]> other = new AtomicReference<>();
+        final Thread thread = new Thread(() -> other.set(pool.array(4000)));
+        thread.start();
+        thread.join();
+        new Assertion<>(
+            "Must not give out an array released by another thread",
+            other.get(),
+            new IsNot<>(new IsSame<>(array))
+        ).affirm();
+    }
+
+    @Test
+    void reusesDirectBuffer() {
+        final Buffers pool = new ThreadBuffers(true);
+        final ByteBuffer buffer = pool.buffer(512);
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        final ByteBuffer taken = pool.buffer(512);
+        new Assertion<>(
+            "Must give out the released buffer again",
+            taken,
+            new IsSame<>(buffer)
+        ).affirm();
+        new Assertion<>(
+            "Must clear the buffer",
+            taken.remaining(),
+            new IsEqual<>(512)
+        ).affirm();
+        new Assertion<>(
+            "Must give out a direct buffer",
+            taken.isDirect(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.cactoos.Input;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link Unzip}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class UnzipTest {
+
+    @Test
+    void readsEntriesOfFile(@TempDir final Path dir) throws Exception {
+        final Path zip = UnzipTest.archive(dir);
+        final List<String> names = new ArrayList<>(2);
+        for (final Map.Entry<String, Input> entry : new Unzip(zip)) {
+            names.add(entry.getKey());
+        }
+        new Assertion<>(
+            "Must list all entries of the zip file",
+            names,
+            new IsEqual<>(new ListOf<>("a.txt", "b.txt"))
+        ).affirm();
+    }
+
+    @Test
+    void readsEntryOfFileInAnyOrder(@TempDir final Path dir)
+        throws Exception {
+        final Iterator<Map.Entry<String, Input>> entries =
+            new Unzip(UnzipTest.archive(dir)).iterator();
+        final Input first = entries.next().getValue();
+        final Input second = entries.next().getValue();
+        new Assertion<>(
+            "Must read the second entry of the zip file",
+            new TextOf(second),
+            new IsText("second")
+        ).affirm();
+        new Assertion<>(
+            "Must read the first entry of the zip file after the second",
+            new TextOf(first),
+            new IsText("first")
+        ).affirm();
+    }
+
+    @Test
+    void readsEntriesOfStream(@TempDir final Path dir) throws Exception {
+        final StringBuilder text = new StringBuilder(0);
+        for (final Map.Entry<String, Input> entry
+            : new Unzip(new InputOf(UnzipTest.archive(dir)))) {
+            text.append(entry.getKey()).append('=')
+                .append(new TextOf(entry.getValue()).asString())
+                .append(';');
+        }
+        new Assertion<>(
+            "Must read all entries of the zip stream, one after another",
+            text.toString(),
+            new IsEqual<>("a.txt=first;b.txt=second;")
+        ).affirm();
+    }
+
+    @Test
+    void unzipsWhatIsZipped(@TempDir final Path dir) throws Exception {
+        final File file = dir.resolve("zipped.txt").toFile();
+        Files.write(file.toPath(), "zipped".getBytes());
+        final Map.Entry<String, Input> entry = new Unzip(
+            new Zip(Collections.singleton(file.toPath()))
+        ).iterator().next();
+        new Assertion<>(
+            "Must unzip the content of the zipped file",
+            new TextOf(entry.getValue()),
+            new IsText("zipped")
+        ).affirm();
+    }
+
+    @Test
+    void readsEntriesOfFileAfterIteration(@TempDir final Path dir)
+        throws Exception {
+        final List<Map.Entry<String, Input>> entries =
+            new ListOf<>(new Unzip(UnzipTest.archive(dir)));
+        new Assertion<>(
+            "Must read the entry of the zip file when iteration is over",
+            new TextOf(entries.get(1).getValue()),
+            new IsText("second")
+        ).affirm();
+    }
+
+    @Test
+    void readsEntryOfFileAfterIteratorIsClosed(@TempDir final Path dir)
+        throws Exception {
+        final Iterator<Map.Entry<String, Input>> entries =
+            new Unzip(UnzipTest.archive(dir)).iterator();
+        final Input first = entries.next().getValue();
+        ((Closeable) entries).close();
+        new Assertion<>(
+            "Must read the entry of the zip file when iterator is closed",
+            new TextOf(first),
+            new IsText("first")
+        ).affirm();
+    }
+
+    @Test
+    void closesStreamAfterLastEntry(@TempDir final Path dir)
+        throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        new ListOf<>(new Unzip(UnzipTest.watched(dir, closed)));
+        new Assertion<>(
+            "Must close the zip stream after the last entry",
+            closed.get(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void closesStreamWhenClosedEarly(@TempDir final Path dir)
+        throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Iterator<Map.Entry<String, Input>> entries =
+            new Unzip(UnzipTest.watched(dir, closed)).iterator();
+        entries.next();
+        ((Closeable) entries).close();
+        new Assertion<>(
+            "Must close the zip stream when the iterator is closed",
+            closed.get(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    /**
+     * Input of an archive with two entries, that tells when it's closed.
+     * @param dir Where to put the archive
+     * @param closed Set when the stream is closed
+     * @return The input
+     * @throws Exception If fails
+     */
+    private static Input watched(final Path dir, final AtomicBoolean closed)
+        throws Exception {
+        final Path zip = UnzipTest.archive(dir);
+        return () -> new FilterInputStream(Files.newInputStream(zip)) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+    }
+
+    /**
+     * Make an archive with two entries.
+     * @param dir Where to put it
+     * @return The archive
+     * @throws Exception If fails
+     */
+    private static Path archive(final Path dir) throws Exception {
+        final Path zip = dir.resolve("test.zip");
+        try (OutputStream out = Files.newOutputStream(zip);
+            ZipOutputStream stream = new ZipOutputStream(out)) {
+            stream.putNextEntry(new ZipEntry("a.txt"));
+            stream.write("first".getBytes());
+            stream.closeEntry();
+            stream.putNextEntry(new ZipEntry("b.txt"));
+            stream.write("second".getBytes());
+            stream.closeEntry();
+        }
+        return zip;
+    }
+}
@@ -27,12 +27,17 @@ package org.cactoos.io;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
+import org.cactoos.bytes.BytesOf;
 import org.cactoos.list.ListOf;
 import org.hamcrest.collection.IsIterableContainingInAnyOrder;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsNull;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -101,4 +106,32 @@ public final class ZipTest {
             ).affirm();
         }
     }
+
+    @Test
+    public void zipsContentOfFiles() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final byte[] content = new byte[100_000];
+        new Random(0L).nextBytes(content);
+        Files.write(dir.resolve("random.bin"), content);
+        try (ZipInputStream input = new ZipInputStream(
+            new Zip(Collections.singleton(dir.resolve("random.bin"))).stream()
+        )) {
+            input.getNextEntry();
+            new Assertion<>(
+                "Must compress the whole content of the file",
+                new BytesOf(new InputOf(input)).asBytes(),
+                new IsEqual<>(content)
+            ).affirm();
+        }
+    }
+
+    @Test
+    public void compressesOnlyWhenRead() throws Exception {
+        final Path absent = this.folder.getRoot().toPath().resolve("absent");
+        new Assertion<>(
+            "Must not read files before the archive is read",
+            new Zip(Collections.singleton(absent)).stream(),
+            new IsNot<>(new IsNull<>())
+        ).affirm();
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link BottomOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class BottomOfTest {
+
+    @Test
+    void takesLowestItems() {
+        new Assertion<>(
+            "Must take the lowest items, the lowest first",
+            new ListOf<>(
+                new BottomOf<>(3, new IterableOf<>(5, 1, 9, 3, 7, 2, 8))
+            ),
+            new IsEqual<>(new ListOf<>(1, 2, 3))
+        ).affirm();
+    }
+
+    @Test
+    void takesLowestItemsInParallel() {
+        new Assertion<>(
+            "Must take the lowest items in parallel",
+            new ListOf<>(
+                new BottomOf<>(
+                    ForkJoinPool.commonPool(),
+                    3,
+                    Comparator.comparing((Integer num) -> num % 1000),
+                    new RangeOf<>(1, 10_000, num -> num + 1)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(1000, 2000, 3000))
+        ).affirm();
+    }
+}
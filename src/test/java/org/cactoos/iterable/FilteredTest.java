@@ -23,11 +23,14 @@
  */
 package org.cactoos.iterable;
 
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.cactoos.list.ListOf;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.StartsWith;
 import org.hamcrest.Matchers;
 import org.hamcrest.collection.IsEmptyIterable;
+import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -161,4 +164,21 @@ final class FilteredTest {
         ).affirm();
     }
 
+    @Test
+    void filtersInParallelStream() {
+        new Assertion<>(
+            "Must filter items in a parallel stream",
+            StreamSupport.stream(
+                new Filtered<>(
+                    x -> x % 3 == 0, new RangeOf<>(1, 1000, x -> x + 1)
+                ).spliterator(),
+                true
+            ).collect(Collectors.toList()),
+            new IsEqual<>(
+                new ListOf<>(
+                    new Filtered<>(x -> x % 3 == 0, new RangeOf<>(1, 1000, x -> x + 1))
+                )
+            )
+        ).affirm();
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link IterableEnvelope}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle JavadocTypeCheck (500 lines)
+ */
+final class IterableEnvelopeTest {
+
+    @Test
+    void delegatesSpliterator() {
+        new Assertion<>(
+            "must delegate spliterator to the wrapped iterable",
+            new IterableEnvelope<Integer>(new IterableOf<>(1, 2, 3)) {
+            }.spliterator().getExactSizeIfKnown(),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
+
+    @Test
+    void allowsOwnSpliterator() {
+        new Assertion<>(
+            "must use the spliterator of the subclass",
+            new Unknown().spliterator().getExactSizeIfKnown(),
+            new IsEqual<>(-1L)
+        ).affirm();
+    }
+
+    private static final class Unknown extends IterableEnvelope<Integer> {
+        Unknown() {
+            super(new IterableOf<>(1, 2, 3));
+        }
+
+        @Override
+        public Spliterator<Integer> spliterator() {
+            return Spliterators.spliteratorUnknownSize(this.iterator(), 0);
+        }
+    }
+}
@@ -44,4 +44,13 @@ final class IterableOfLongsTest {
             new HasValues<>(values[0], values[1], values[2])
         ).affirm();
     }
+
+    @Test
+    void iteratesLongValuesWithoutBoxing() {
+        new Assertion<>(
+            "Must iterate the same values without boxing",
+            new IterableOf<>(new IterableOfLongs(1L, 2L, 3L).longIterator()),
+            new HasValues<>(1L, 2L, 3L)
+        ).affirm();
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Spliterator;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
@@ -157,4 +158,14 @@ final class IterableOfTest {
             new IsEqual<>(new IterableOf<>(1, 2).hashCode())
         ).affirm();
     }
+
+    @Test
+    void splitsArrayEvenly() {
+        final Spliterator<Integer> split = new IterableOf<>(1, 2, 3, 4).spliterator();
+        new Assertion<>(
+            "Must split an array in halves of known size",
+            split.trySplit().getExactSizeIfKnown() + split.getExactSizeIfKnown(),
+            new IsEqual<>(4L)
+        ).affirm();
+    }
 }
@@ -24,6 +24,9 @@
 package org.cactoos.iterable;
 
 import java.util.Collections;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.cactoos.list.ListOf;
 import org.cactoos.text.TextOf;
 import org.cactoos.text.Upper;
@@ -89,4 +92,30 @@ final class MappedTest {
             new IsEqual<>(new IterableOf<>("A", "B", "C"))
         ).affirm();
     }
+
+    @Test
+    void keepsSizeOfSpliterator() {
+        new Assertion<>(
+            "Must keep the size of the source spliterator",
+            new Mapped<>(x -> x * 2, new ListOf<>(1, 2, 3)).spliterator()
+                .hasCharacteristics(Spliterator.SIZED),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void mapsInParallelStream() {
+        new Assertion<>(
+            "Must map items in a parallel stream",
+            StreamSupport.stream(
+                new Mapped<Integer>(
+                    x -> x * 2, new RangeOf<>(1, 1000, x -> x + 1)
+                ).spliterator(),
+                true
+            ).collect(Collectors.toList()),
+            new IsEqual<>(
+                new ListOf<>(new Mapped<>(x -> x * 2, new RangeOf<>(1, 1000, x -> x + 1)))
+            )
+        ).affirm();
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import org.hamcrest.collection.IsEmptyIterable;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link RangeOfLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class RangeOfLongsTest {
+
+    @Test
+    void includesBothEnds() {
+        new Assertion<>(
+            "Must include min and max",
+            new RangeOfLongs(1L, 4L),
+            new HasValues<>(1L, 2L, 3L, 4L)
+        ).affirm();
+    }
+
+    @Test
+    void stepsOver() {
+        new Assertion<>(
+            "Must stop before the step goes over max",
+            new RangeOfLongs(0L, 10L, 4L),
+            new HasValues<>(0L, 4L, 8L)
+        ).affirm();
+    }
+
+    @Test
+    void stopsAtMaxValue() {
+        new Assertion<>(
+            "Must not overflow at the max value",
+            new RangeOfLongs(Long.MAX_VALUE - 1, Long.MAX_VALUE),
+            new HasValues<>(Long.MAX_VALUE - 1, Long.MAX_VALUE)
+        ).affirm();
+    }
+
+    @Test
+    void isEmptyWhenMinIsOverMax() {
+        new Assertion<>(
+            "Must be empty if min is over max",
+            new RangeOfLongs(2L, 1L),
+            new IsEmptyIterable<>()
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNonPositiveStep() {
+        new Assertion<>(
+            "Must reject a step that is not positive",
+            () -> new RangeOfLongs(1L, 2L, 0L).iterator(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
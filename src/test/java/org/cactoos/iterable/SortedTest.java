@@ -25,7 +25,9 @@ package org.cactoos.iterable;
 
 import java.util.Collections;
 import java.util.Comparator;
+import org.cactoos.bytes.BytesOf;
 import org.cactoos.list.ListOf;
+import org.cactoos.text.TextOf;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
@@ -104,4 +106,18 @@ final class SortedTest {
         ).affirm();
     }
 
+    @Test
+    void sortsBeyondMemoryBudget() throws Exception {
+        new Assertion<>(
+            "Must sort an iterable larger than the memory budget",
+            new Sorted<>(
+                Comparator.naturalOrder(),
+                2,
+                (Integer num) -> new BytesOf(num.toString()),
+                bytes -> Integer.valueOf(new TextOf(bytes).asString()),
+                new IterableOf<>(7, 3, 9, 1, 4, 8, 2)
+            ),
+            new IsEqual<>(new IterableOf<>(1, 2, 3, 4, 7, 8, 9))
+        ).affirm();
+    }
 }
@@ -23,16 +23,29 @@
  */
 package org.cactoos.iterator;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.cactoos.bytes.BytesOf;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test Case for {@link Sorted}.
  * @since 0.19
  * @checkstyle JavadocMethodCheck (500 lines)
  */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
 final class SortedTest {
 
     @Test
@@ -53,4 +66,157 @@ final class SortedTest {
         ).affirm();
     }
 
+    @Test
+    void sortsBeyondMemoryBudget() {
+        new Assertion<>(
+            "Must sort elements spilled to disk",
+            new ListOf<>(
+                new Sorted<>(
+                    Comparator.<String>naturalOrder(),
+                    3,
+                    BytesOf::new,
+                    bytes -> new TextOf(bytes).asString(),
+                    new IteratorOf<>(
+                        "j", "c", "h", "a", "e", "i", "b", "g", "d", "f"
+                    )
+                )
+            ),
+            new IsEqual<>(
+                new ListOf<>(
+                    "a", "b", "c", "d", "e", "f", "g", "h", "i", "j"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void keepsEqualElementsInOrderWhenSpilled() {
+        new Assertion<>(
+            "Must merge spilled runs stably",
+            new ListOf<>(
+                new Sorted<>(
+                    Comparator.comparing(String::length),
+                    2,
+                    BytesOf::new,
+                    bytes -> new TextOf(bytes).asString(),
+                    new IteratorOf<>("bb", "a", "cc", "d", "ee", "f")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "d", "f", "bb", "cc", "ee"))
+        ).affirm();
+    }
+
+    @Test
+    void deletesSpilledFiles() throws Exception {
+        new ListOf<>(
+            new Sorted<>(
+                Comparator.<String>naturalOrder(),
+                1,
+                BytesOf::new,
+                bytes -> new TextOf(bytes).asString(),
+                new IteratorOf<>("z", "y", "x")
+            )
+        );
+        new Assertion<>(
+            "Must delete temporary files after reading them",
+            SortedTest.spilled(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void keepsInMemoryWhenItemsFitBudgetExactly() {
+        new Assertion<>(
+            "Must not spill when all items fit into the budget",
+            new ListOf<>(
+                new Sorted<>(
+                    Comparator.<String>naturalOrder(),
+                    3,
+                    (String item) -> {
+                        throw new IllegalStateException("spilled");
+                    },
+                    bytes -> new TextOf(bytes).asString(),
+                    new IteratorOf<>("c", "a", "b")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "b", "c"))
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNonPositiveBudget() {
+        new Assertion<>(
+            "Must reject a memory budget of zero",
+            () -> new Sorted<>(
+                Comparator.<String>naturalOrder(),
+                0,
+                BytesOf::new,
+                bytes -> new TextOf(bytes).asString(),
+                new IteratorOf<>("b", "a")
+            ).next(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void deletesSpilledFilesWhenClosedEarly() throws Exception {
+        final Sorted<String> sorted = new Sorted<>(
+            Comparator.<String>naturalOrder(),
+            1,
+            BytesOf::new,
+            bytes -> new TextOf(bytes).asString(),
+            new IteratorOf<>("z", "y", "x", "w")
+        );
+        sorted.next();
+        sorted.close();
+        new Assertion<>(
+            "Must delete temporary files when closed before the end",
+            SortedTest.spilled(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void deletesSpilledFilesWhenEncodingFails() throws Exception {
+        new Assertion<>(
+            "Must fail when an item can't be encoded",
+            () -> new Sorted<>(
+                Comparator.<String>naturalOrder(),
+                1,
+                (String item) -> {
+                    if ("x".equals(item)) {
+                        throw new IOException("can't encode");
+                    }
+                    return new BytesOf(item);
+                },
+                bytes -> new TextOf(bytes).asString(),
+                new IteratorOf<>("z", "y", "x", "w")
+            ).next(),
+            new Throws<>(
+                "java.io.IOException: can't encode",
+                UncheckedIOException.class
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must delete temporary files when sorting fails",
+            SortedTest.spilled(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    /**
+     * How many spilled files are in the temporary directory.
+     * @return Number of files
+     * @throws IOException If fails
+     */
+    private static long spilled() throws IOException {
+        try (Stream<Path> files = Files.list(
+            Paths.get(System.getProperty("java.io.tmpdir"))
+        )) {
+            return files.filter(
+                file -> file.getFileName().toString()
+                    .startsWith("cactoos-sorted")
+            ).count();
+        }
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.cactoos.list;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.cactoos.iterable.IterableOf;
@@ -162,4 +163,17 @@ public final class ListOfTest {
         );
     }
 
+    @Test
+    public void copiesCollection() {
+        final List<Integer> src = new ArrayList<>(2);
+        src.add(1);
+        src.add(2);
+        final List<Integer> list = new ListOf<>(src);
+        src.add(3);
+        MatcherAssert.assertThat(
+            "Must not change when the source collection changes",
+            list,
+            new IsEqual<>(new ListOf<>(1, 2))
+        );
+    }
 }
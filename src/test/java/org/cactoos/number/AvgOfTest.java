@@ -24,6 +24,7 @@
 package org.cactoos.number;
 
 import java.util.Collections;
+import org.cactoos.iterable.RangeOf;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.AllOf;
 import org.junit.Test;
@@ -343,4 +344,26 @@ public final class AvgOfTest {
             new AllOf<Number>(new IsNumber(2.5), new IsNumber(2.5))
         ).affirm();
     }
+
+    @Test
+    public void withLargeLongCollection() {
+        new Assertion<>(
+            "Average of many longs must be exact",
+            new AvgOf(
+                new RangeOf<>(
+                    1L, 1_000_000L, x -> x + 1L
+                )
+            ).doubleValue(),
+            Matchers.equalTo(500_000.5d)
+        ).affirm();
+    }
+
+    @Test
+    public void withFractionalAverageOfInts() {
+        new Assertion<>(
+            "Average of ints must not be truncated",
+            new AvgOf(1, 1, 2).doubleValue(),
+            Matchers.closeTo(4.0d / 3.0d, 1.0e-15)
+        ).affirm();
+    }
 }
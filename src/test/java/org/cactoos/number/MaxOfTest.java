@@ -322,4 +322,23 @@ final class MaxOfTest {
             new HasValue<>(2.0f)
         ).affirm();
     }
+
+    @Test
+    void withNaNAndSignedZeros() {
+        new Assertion<>(
+            "must select NaN as maximum double",
+            () -> new MaxOf(1.0d, Double.NaN, 2.0d).doubleValue(),
+            new HasValue<>(Double.NaN)
+        ).affirm();
+        new Assertion<>(
+            "must select positive zero as maximum double",
+            () -> new MaxOf(-0.0d, 0.0d).doubleValue(),
+            new HasValue<>(0.0d)
+        ).affirm();
+        new Assertion<>(
+            "must select positive zero as maximum float",
+            () -> new MaxOf(0.0f, -0.0f).floatValue(),
+            new HasValue<>(0.0f)
+        ).affirm();
+    }
 }
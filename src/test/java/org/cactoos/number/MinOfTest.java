@@ -147,4 +147,19 @@ final class MinOfTest {
         );
     }
 
+    @Test
+    void withNaNAndSignedZeros() {
+        MatcherAssert.assertThat(
+            new MinOf(1.0d, Double.NaN, 2.0d).doubleValue(),
+            Matchers.equalTo(Double.NaN)
+        );
+        MatcherAssert.assertThat(
+            new MinOf(0.0d, -0.0d).doubleValue(),
+            Matchers.equalTo(-0.0d)
+        );
+        MatcherAssert.assertThat(
+            new MinOf(-0.0f, 0.0f).floatValue(),
+            Matchers.equalTo(-0.0f)
+        );
+    }
 }
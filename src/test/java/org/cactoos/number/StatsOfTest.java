@@ -0,0 +1,194 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.RangeOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.number.IsCloseTo;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link StatsOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class StatsOfTest {
+
+    @Test
+    void describesNumbers() {
+        final StatsOf stats = new StatsOf(4, 2, 5, 1, 3);
+        new Assertion<>(
+            "Must count, sum and find extremes",
+            new ListOf<Number>(
+                stats.count(),
+                stats.sum().longValue(),
+                stats.min().intValue(),
+                stats.max().intValue()
+            ),
+            new IsEqual<>(new ListOf<Number>(5L, 15L, 1, 5))
+        ).affirm();
+        new Assertion<>(
+            "Must find mean and variance",
+            new ListOf<>(stats.mean().doubleValue(), stats.variance()),
+            new IsEqual<>(new ListOf<>(3.0, 2.0))
+        ).affirm();
+    }
+
+    @Test
+    void findsExtremesOfLargeLongs() {
+        final StatsOf stats = new StatsOf(
+            Long.MAX_VALUE - 1L, Long.MAX_VALUE, Long.MAX_VALUE - 1L
+        );
+        new Assertion<>(
+            "Must tell large longs apart by their lowest bits",
+            new ListOf<Number>(stats.min(), stats.max()),
+            new IsEqual<>(
+                new ListOf<Number>(Long.MAX_VALUE - 1L, Long.MAX_VALUE)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void mergesExtremesOfLargeLongs() {
+        new Assertion<>(
+            "Must tell large longs apart when merging",
+            new StatsOf(
+                new StatsOf(Long.MAX_VALUE - 1L),
+                new StatsOf(Long.MAX_VALUE)
+            ).max(),
+            new IsEqual<>(Long.MAX_VALUE)
+        ).affirm();
+    }
+
+    @Test
+    void findsExactQuantilesOfFewNumbers() {
+        final StatsOf stats = new StatsOf(5, 1, 4, 2, 3);
+        new Assertion<>(
+            "Must find min, median and max as quantiles",
+            new ListOf<>(
+                stats.quantile(0.0), stats.quantile(0.5), stats.quantile(1.0)
+            ),
+            new IsEqual<>(new ListOf<>(1.0, 3.0, 5.0))
+        ).affirm();
+    }
+
+    @Test
+    void findsApproximateQuantilesOfManyNumbers() {
+        final StatsOf stats = new StatsOf(
+            new RangeOf<>(1, 100_000, x -> x + 1)
+        );
+        new Assertion<>(
+            "Must find the median approximately",
+            stats.quantile(0.5),
+            new IsCloseTo(50_000.0, 500.0)
+        ).affirm();
+        new Assertion<>(
+            "Must find a high percentile precisely",
+            stats.quantile(0.999),
+            new IsCloseTo(99_900.0, 20.0)
+        ).affirm();
+    }
+
+    @Test
+    void iteratesOnce() {
+        final AtomicInteger passes = new AtomicInteger();
+        final StatsOf stats = new StatsOf(
+            new IterableOf<Number>(
+                () -> {
+                    passes.incrementAndGet();
+                    return new ListOf<Number>(1, 2, 3).iterator();
+                }
+            )
+        );
+        stats.count();
+        stats.sum();
+        stats.min();
+        stats.max();
+        stats.mean();
+        stats.variance();
+        stats.quantile(0.5);
+        new Assertion<>(
+            "Must iterate the numbers once",
+            passes.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void mergesParts() {
+        final StatsOf stats = new StatsOf(
+            new StatsOf(1.0, 2.0),
+            new StatsOf(),
+            new StatsOf(3.0, 4.0, 5.0)
+        );
+        new Assertion<>(
+            "Must merge statistics of parts",
+            new ListOf<>(
+                stats.count(),
+                stats.mean().doubleValue(),
+                stats.variance(),
+                stats.min().doubleValue(),
+                stats.quantile(0.5)
+            ),
+            new IsEqual<>(new ListOf<Number>(5L, 3.0, 2.0, 1.0, 3.0))
+        ).affirm();
+    }
+
+    @Test
+    void describesInParallel() {
+        final StatsOf stats = new StatsOf(
+            ForkJoinPool.commonPool(),
+            new RangeOf<>(1, 10_000, x -> x + 1)
+        );
+        new Assertion<>(
+            "Must count and sum in parallel",
+            new ListOf<Number>(stats.count(), stats.sum().longValue()),
+            new IsEqual<>(new ListOf<Number>(10_000L, 50_005_000L))
+        ).affirm();
+        new Assertion<>(
+            "Must find variance in parallel",
+            stats.variance(),
+            new IsCloseTo((10_000.0 * 10_000.0 - 1.0) / 12.0, 1.0e-6)
+        ).affirm();
+    }
+
+    @Test
+    void failsToFindExtremesOfNothing() {
+        new Assertion<>(
+            "Must not find the lowest of no numbers",
+            () -> new StatsOf().min(),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
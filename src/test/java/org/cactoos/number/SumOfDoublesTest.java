@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.FilteredDoubles;
+import org.cactoos.iterable.MappedDoubles;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SumOfDoubles}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SumOfDoublesTest {
+
+    @Test
+    void sumsDoubles() {
+        new Assertion<>(
+            "Must sum doubles",
+            new SumOfDoubles(1.5d, 2.5d, 3.0d).doubleValue(),
+            new IsEqual<>(7.0d)
+        ).affirm();
+    }
+
+    @Test
+    void compensatesRoundingErrors() {
+        new Assertion<>(
+            "Must not lose small values next to big ones",
+            new SumOfDoubles(1.0d, 1.0e100d, 1.0d, -1.0e100d).doubleValue(),
+            new IsEqual<>(2.0d)
+        ).affirm();
+    }
+
+    @Test
+    void overflowsToInfinity() {
+        new Assertion<>(
+            "Must overflow to infinity, not to NaN",
+            new SumOfDoubles(Double.MAX_VALUE, Double.MAX_VALUE).doubleValue(),
+            new IsEqual<>(Double.POSITIVE_INFINITY)
+        ).affirm();
+    }
+
+    @Test
+    void sumsMappedAndFilteredDoubles() {
+        new Assertion<>(
+            "Must sum a pipeline of doubles",
+            new SumOfDoubles(
+                new FilteredDoubles(
+                    x -> x > 1.0d,
+                    new MappedDoubles(x -> x / 2.0d, 1.0d, 2.0d, 3.0d, 4.0d)
+                )
+            ).doubleValue(),
+            new IsEqual<>(3.5d)
+        ).affirm();
+    }
+}
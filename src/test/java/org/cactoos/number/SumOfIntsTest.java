@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.FilteredInts;
+import org.cactoos.iterable.MappedInts;
+import org.cactoos.iterable.RangeOfInts;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SumOfInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SumOfIntsTest {
+
+    @Test
+    void sumsInts() {
+        new Assertion<>(
+            "Must sum ints",
+            new SumOfInts(1, 2, 3).intValue(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
+    @Test
+    void sumsBeyondIntRange() {
+        new Assertion<>(
+            "Must sum ints into a long",
+            new SumOfInts(Integer.MAX_VALUE, Integer.MAX_VALUE).longValue(),
+            new IsEqual<>(4_294_967_294L)
+        ).affirm();
+    }
+
+    @Test
+    void sumsRangedMappedAndFilteredInts() {
+        new Assertion<>(
+            "Must sum a pipeline of ints",
+            new SumOfInts(
+                new FilteredInts(
+                    x -> x % 2 == 0,
+                    new MappedInts(x -> x * 3, new RangeOfInts(1, 10))
+                )
+            ).longValue(),
+            new IsEqual<>(90L)
+        ).affirm();
+    }
+}
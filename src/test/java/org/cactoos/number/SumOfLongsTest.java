@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.FilteredLongs;
+import org.cactoos.iterable.MappedLongs;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SumOfLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SumOfLongsTest {
+
+    @Test
+    void sumsLongs() {
+        new Assertion<>(
+            "Must sum longs",
+            new SumOfLongs(1L, 2L, Integer.MAX_VALUE).longValue(),
+            new IsEqual<>(2_147_483_650L)
+        ).affirm();
+    }
+
+    @Test
+    void detectsOverflow() {
+        new Assertion<>(
+            "Must throw on overflow",
+            () -> new SumOfLongs(Long.MAX_VALUE, 1L).longValue(),
+            new Throws<>(ArithmeticException.class)
+        ).affirm();
+    }
+
+    @Test
+    void sumsMappedAndFilteredLongs() {
+        new Assertion<>(
+            "Must sum a pipeline of longs",
+            new SumOfLongs(
+                new FilteredLongs(
+                    x -> x % 3L != 0L,
+                    new MappedLongs(x -> x * 2L, 1L, 2L, 3L, 4L)
+                )
+            ).longValue(),
+            new IsEqual<>(14L)
+        ).affirm();
+    }
+}
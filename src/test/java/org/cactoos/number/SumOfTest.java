@@ -23,8 +23,11 @@
  */
 package org.cactoos.number;
 
+import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.RangeOf;
 import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
@@ -152,4 +155,59 @@ final class SumOfTest {
             new IsEqual<>(4_294_967_300.0f)
         );
     }
+
+    @Test
+    void sumsInParallel() {
+        MatcherAssert.assertThat(
+            "Can't sum numbers in parallel",
+            new SumOf(
+                ForkJoinPool.commonPool(),
+                new RangeOf<>(1, 10_000, x -> x + 1)
+            ).longValue(),
+            new IsEqual<>(50_005_000L)
+        );
+    }
+
+    @Test
+    void spillsLongOverflowToExactSum() {
+        MatcherAssert.assertThat(
+            "Can't sum longs beyond Long.MAX_VALUE",
+            new SumOf(Long.MAX_VALUE, Long.MAX_VALUE, -Long.MAX_VALUE)
+                .longValue(),
+            new IsEqual<>(Long.MAX_VALUE)
+        );
+    }
+
+    @Test
+    void sumsDoublesExactly() {
+        MatcherAssert.assertThat(
+            "Can't sum doubles without losing small values",
+            new SumOf(1.0e100, 1.0d, -1.0e100).doubleValue(),
+            new IsEqual<>(1.0d)
+        );
+    }
+
+    @Test
+    void sumsMixedNumbers() {
+        MatcherAssert.assertThat(
+            "Can't sum numbers of different types",
+            new SumOf(1, 2L, 0.5f, 0.25d, new BigDecimal("0.125"))
+                .doubleValue(),
+            new IsEqual<>(3.875d)
+        );
+    }
+
+    @Test
+    void sumsFloatingPointNumbersAsPrinted() {
+        MatcherAssert.assertThat(
+            "Can't sum a float as it is printed",
+            new SumOf(0.1f).doubleValue(),
+            new IsEqual<>(0.1d)
+        );
+        MatcherAssert.assertThat(
+            "Can't sum doubles as they are printed",
+            new SumOf(0.1d, 0.2d).doubleValue(),
+            new IsEqual<>(0.3d)
+        );
+    }
 }
@@ -24,6 +24,7 @@
 package org.cactoos.proc;
 
 import java.util.List;
+import org.cactoos.experimental.SharedPool;
 import org.cactoos.list.ListOf;
 import org.cactoos.list.Synced;
 import org.hamcrest.collection.IsIterableContainingInAnyOrder;
@@ -66,4 +67,19 @@ public class ForEachInThreadsTest {
         ).affirm();
     }
 
+    @Test
+    void processesInExecutor() throws Exception {
+        final List<Integer> list = new Synced<>(new ListOf<>());
+        new ForEachInThreads<Integer>(
+            new SharedPool(),
+            list::add
+        ).exec(new ListOf<>(3, 4));
+        new Assertion<>(
+            "Must process all items in the executor",
+            list,
+            new IsIterableContainingInAnyOrder<>(
+                new ListOf<>(new IsEqual<>(3), new IsEqual<>(4))
+            )
+        ).affirm();
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.proc;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.func.Bulkhead;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link LimitedProc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class LimitedProcTest {
+
+    @Test
+    void runsOrigin() throws Exception {
+        final List<Integer> list = new LinkedList<>();
+        new LimitedProc<Integer>(list::add, 1).exec(1);
+        new Assertion<>(
+            "Must run the origin proc",
+            list.get(0),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWhenSaturated() {
+        final Bulkhead bulkhead = new Bulkhead(1);
+        new Assertion<>(
+            "Must reject the call beyond the limit",
+            () -> {
+                new LimitedProc<Integer>(
+                    x -> new LimitedProc<Integer>(y -> { }, bulkhead).exec(x),
+                    bulkhead
+                ).exec(1);
+                return true;
+            },
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+}
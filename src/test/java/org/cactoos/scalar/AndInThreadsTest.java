@@ -23,10 +23,16 @@
  */
 package org.cactoos.scalar;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.cactoos.Scalar;
+import org.cactoos.experimental.ThreadPerTask;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
@@ -40,6 +46,7 @@ import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link AndInThreads}.
@@ -223,4 +230,73 @@ final class AndInThreadsTest {
         );
     }
 
+    @Test
+    void evaluatesTwice() throws Exception {
+        final AndInThreads and = new AndInThreads(
+            new True(), new True()
+        );
+        and.value();
+        new Assertion<>(
+            "Must be evaluated again",
+            and,
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void cancelsRemainingItemsOnFalse() throws Exception {
+        final ExecutorService svc = new ThreadPerTask();
+        new Assertion<>(
+            "Must be false without waiting for the slow item",
+            new AndInThreads(
+                svc,
+                () -> {
+                    new CountDownLatch(1).await();
+                    return true;
+                },
+                new False()
+            ),
+            new HasValue<>(false)
+        ).affirm();
+        svc.shutdown();
+        new Assertion<>(
+            "Must interrupt the slow item",
+            svc.awaitTermination(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenTimeIsOut() {
+        new Assertion<>(
+            "Must fail when the time is out",
+            new AndInThreads(
+                new ThreadPerTask(),
+                Duration.ofMillis(100L),
+                new ListOf<Scalar<Boolean>>(
+                    new True(),
+                    () -> {
+                        new CountDownLatch(1).await();
+                        return true;
+                    }
+                )
+            ),
+            new Throws<>(CancellationException.class)
+        ).affirm();
+    }
+
+    @Test
+    void throwsExceptionOfFailedItem() {
+        new Assertion<>(
+            "Must throw the exception of the failed item",
+            new AndInThreads(
+                new ThreadPerTask(),
+                new True(),
+            () -> {
+                throw new IOException("and failed");
+            }
+            ),
+            new Throws<>("and failed", IOException.class)
+        ).affirm();
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Awaited}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class AwaitedTest {
+
+    @Test
+    void returnsResult() {
+        new Assertion<>(
+            "Must return the result of the future",
+            new Awaited<>(CompletableFuture.completedFuture("done")),
+            new HasValue<>("done")
+        ).affirm();
+    }
+
+    @Test
+    void throwsExceptionOfComputation() {
+        final FutureTask<String> task = new FutureTask<>(
+            () -> {
+                throw new IOException("broken");
+            }
+        );
+        task.run();
+        new Assertion<>(
+            "Must throw the exception of the computation itself",
+            new Awaited<>(task),
+            new Throws<>("broken", IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void throwsErrorOfComputation() {
+        final FutureTask<String> task = new FutureTask<>(
+            () -> {
+                throw new AssertionError("failed");
+            }
+        );
+        task.run();
+        new Assertion<>(
+            "Must throw the error of the computation itself",
+            () -> {
+                try {
+                    return new Awaited<>(task).value();
+                } catch (final AssertionError err) {
+                    throw new IllegalStateException(err.getMessage(), err);
+                }
+            },
+            new Throws<>("failed", IllegalStateException.class)
+        ).affirm();
+    }
+}
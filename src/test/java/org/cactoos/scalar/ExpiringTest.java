@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link Expiring}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ExpiringTest {
+
+    @Test
+    void cachesValueUntilExpiration() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet, Duration.ofHours(1L)
+        );
+        scalar.value();
+        new Assertion<>(
+            "Must return cached value",
+            scalar,
+            new HasValue<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void recalculatesExpiredValue() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet, Duration.ofMillis(10L)
+        );
+        scalar.value();
+        TimeUnit.MILLISECONDS.sleep(50L);
+        new Assertion<>(
+            "Must calculate the value again",
+            scalar,
+            new HasValue<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void cachesNull() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            () -> {
+                calls.incrementAndGet();
+                return null;
+            },
+            Duration.ofHours(1L)
+        );
+        scalar.value();
+        new Assertion<>(
+            "Must return null",
+            scalar.value(),
+            new IsNull<>()
+        ).affirm();
+        new Assertion<>(
+            "Must calculate null only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void refreshesAheadInBackground() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final List<Runnable> tasks = new LinkedList<>();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet,
+            Duration.ofHours(1L),
+            Duration.ofHours(1L),
+            tasks::add
+        );
+        scalar.value();
+        new Assertion<>(
+            "Must return old value while refreshing",
+            scalar,
+            new HasValue<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must start only one refresh",
+            tasks.size(),
+            new IsEqual<>(1)
+        ).affirm();
+        tasks.remove(0).run();
+        new Assertion<>(
+            "Must return refreshed value",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void returnsCachedValueWhenRefreshIsRejected() throws Exception {
+        final AtomicInteger rejects = new AtomicInteger(1);
+        final List<Runnable> tasks = new LinkedList<>();
+        final Scalar<Integer> scalar = new Expiring<>(
+            new AtomicInteger()::incrementAndGet,
+            Duration.ofHours(1L),
+            Duration.ofHours(1L),
+            task -> {
+                if (rejects.getAndDecrement() > 0) {
+                    throw new RejectedExecutionException("Full");
+                }
+                tasks.add(task);
+            }
+        );
+        scalar.value();
+        new Assertion<>(
+            "Must return cached value if refresh is rejected",
+            scalar,
+            new HasValue<>(1)
+        ).affirm();
+        scalar.value();
+        new Assertion<>(
+            "Must submit refresh again on the next read",
+            tasks.size(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.experimental.ThreadPerTask;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FirstOfInThreads}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class FirstOfInThreadsTest {
+
+    @Test
+    void returnsMatchingResult() {
+        new Assertion<>(
+            "Must return the result that matches",
+            new FirstOfInThreads<>(
+                (String item) -> item.startsWith("b"),
+                new ListOf<Scalar<String>>(
+                    () -> "apple", () -> "banana", () -> "cherry"
+                ),
+                () -> "none"
+            ),
+            new HasValue<>("banana")
+        ).affirm();
+    }
+
+    @Test
+    void returnsFallbackIfNothingMatches() {
+        new Assertion<>(
+            "Must return the fallback when nothing matches",
+            new FirstOfInThreads<>(
+                (String item) -> item.isEmpty(),
+                new ListOf<Scalar<String>>(() -> "apple", () -> "banana"),
+                () -> "none"
+            ),
+            new HasValue<>("none")
+        ).affirm();
+    }
+
+    @Test
+    void cancelsRemainingTasksOnMatch() throws Exception {
+        final ExecutorService svc = new ThreadPerTask();
+        new Assertion<>(
+            "Must return the fast result without waiting for the slow one",
+            new FirstOfInThreads<>(
+                svc,
+                (Integer item) -> item > 0,
+                new ListOf<Scalar<Integer>>(
+                    () -> {
+                        new CountDownLatch(1).await();
+                        return 1;
+                    },
+                    () -> 2
+                ),
+                () -> 0
+            ),
+            new HasValue<>(2)
+        ).affirm();
+        svc.shutdown();
+        new Assertion<>(
+            "Must interrupt the slow task",
+            svc.awaitTermination(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenTimeIsOut() {
+        new Assertion<>(
+            "Must fail when the time is out",
+            new FirstOfInThreads<>(
+                new ThreadPerTask(),
+                Duration.ofMillis(100L),
+                (Integer item) -> item > 0,
+                new ListOf<Scalar<Integer>>(
+                    () -> {
+                        new CountDownLatch(1).await();
+                        return 1;
+                    }
+                ),
+                () -> 0
+            ),
+            new Throws<>(CancellationException.class)
+        ).affirm();
+    }
+
+    @Test
+    void throwsExceptionOfFailedTask() {
+        new Assertion<>(
+            "Must throw the exception of the failed task",
+            new FirstOfInThreads<>(
+                (Integer item) -> item > 1,
+                new ListOf<Scalar<Integer>>(
+                    () -> 1,
+                    () -> {
+                        throw new IOException("first failed");
+                    }
+                ),
+                () -> 0
+            ),
+            new Throws<>("first failed", IOException.class)
+        ).affirm();
+    }
+}
@@ -23,12 +23,17 @@
  */
 package org.cactoos.scalar;
 
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 import org.cactoos.iterable.HeadOf;
+import org.cactoos.iterable.Mapped;
 import org.cactoos.iterable.RangeOf;
+import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link Folded}.
@@ -64,4 +69,35 @@ final class FoldedTest {
             new IsEqual<>(15L)
         ).affirm();
     }
+
+    @Test
+    void foldsInParallelInOrder() throws Exception {
+        final Iterable<String> items = new ListOf<>(
+            new Mapped<>(String::valueOf, new RangeOf<>(1, 5000, x -> x + 1))
+        );
+        new Assertion<>(
+            "Must fold in parallel, keeping the order of items",
+            new Folded<>(
+                new ForkJoinPool(4), "", (acc, item) -> acc + item, String::concat, items
+            ),
+            new HasValue<>(new Folded<>("", (acc, item) -> acc + item, items).value())
+        ).affirm();
+    }
+
+    @Test
+    void throwsFromParallelFold() {
+        new Assertion<>(
+            "Must throw the exception of the function",
+            new Folded<Integer, Integer>(
+                new ForkJoinPool(2),
+                0,
+                (acc, item) -> {
+                    throw new IOException("bad item");
+                },
+                Integer::sum,
+                new ListOf<>(1, 2, 3)
+            ),
+            new Throws<>("bad item", IOException.class)
+        ).affirm();
+    }
 }
@@ -26,6 +26,9 @@ package org.cactoos.scalar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.RangeOf;
 import org.cactoos.number.ComparableNumber;
 import org.cactoos.number.SumOf;
 import org.cactoos.time.DateOf;
@@ -237,4 +240,16 @@ public final class HighestOfTest {
             Matchers.equalTo(new BoolOf("true").value())
         );
     }
+
+    @Test
+    public void findsHighestInParallel() {
+        new Assertion<>(
+            "Must find the highest in parallel",
+            new HighestOf<Integer>(
+                ForkJoinPool.commonPool(),
+                new Mapped<>(x -> () -> x % 977, new RangeOf<>(1, 5000, x -> x + 1))
+            ),
+            new HasValue<>(976)
+        ).affirm();
+    }
 }
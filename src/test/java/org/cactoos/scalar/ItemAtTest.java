@@ -25,6 +25,7 @@ package org.cactoos.scalar;
 
 import java.io.IOException;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
@@ -129,4 +130,46 @@ final class ItemAtTest {
             new HasValue<>(item.value())
         ).affirm();
     }
+
+    @Test
+    void elementByPosListTest() {
+        new Assertion<>(
+            "must take the item by position from the list",
+            new ItemAt<>(2, new ListOf<>(1, 2, 3)),
+            new HasValue<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void elementByPosFallbackListTest() {
+        new Assertion<>(
+            "must fallback beyond the end of the list",
+            new ItemAt<>(3, 7, new ListOf<>(1, 2, 3)),
+            new HasValue<>(7)
+        ).affirm();
+    }
+
+    @Test
+    void failForNegativePositionListTest() {
+        new Assertion<>(
+            "Must fail for negative position in the list",
+            () -> new ItemAt<>(-1, new ListOf<>(1, 2, 3)).value(),
+            new Throws<>(
+                "The position must be non-negative: -1",
+                IOException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void failForPosMoreLengthListTest() {
+        new Assertion<>(
+            "Must fail for position beyond the end of the list",
+            () -> new ItemAt<>(4, new ListOf<>(1, 2, 3)).value(),
+            new Throws<>(
+                "The iterable doesn't have the position #4",
+                IOException.class
+            )
+        ).affirm();
+    }
 }
@@ -24,12 +24,18 @@
 
 package org.cactoos.scalar;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.cactoos.io.InputOf;
+import org.cactoos.io.OutputTo;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.text.TextOf;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.IsText;
 import org.llorllale.cactoos.matchers.Throws;
 
 /**
@@ -122,4 +128,22 @@ final class LengthOfTest {
             new HasValue<>(12L)
         ).affirm();
     }
+
+    @Test
+    void copiesFileWhileCounting(@TempDir final Path dir) throws Exception {
+        final Path source = dir.resolve("source.txt");
+        final Path target = dir.resolve("target.txt");
+        final String content = "Hello, файл!";
+        Files.write(source, content.getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must calculate length of input copied into output",
+            new LengthOf(new InputOf(source), new OutputTo(target)),
+            new HasValue<>(Files.size(source))
+        ).affirm();
+        new Assertion<>(
+            "Must copy the content of the input",
+            new TextOf(target),
+            new IsText(content)
+        ).affirm();
+    }
 }
@@ -26,6 +26,9 @@ package org.cactoos.scalar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.RangeOf;
 import org.cactoos.number.ComparableNumber;
 import org.cactoos.number.SumOf;
 import org.cactoos.time.DateOf;
@@ -261,4 +264,16 @@ public final class LowestOfTest {
             Matchers.equalTo(new BoolOf("false").value())
         );
     }
+
+    @Test
+    public void findsLowestInParallel() {
+        new Assertion<>(
+            "Must find the lowest in parallel",
+            new LowestOf<Integer>(
+                ForkJoinPool.commonPool(),
+                new Mapped<>(x -> () -> 1000 - x % 977, new RangeOf<>(1, 5000, x -> x + 1))
+            ),
+            new HasValue<>(24)
+        ).affirm();
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.experimental.ThreadPerTask;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+import org.cactoos.list.Synced;
+import org.cactoos.proc.ProcNoNulls;
+import org.hamcrest.collection.IsIterableContainingInAnyOrder;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link OrInThreads}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.AvoidDuplicateLiterals", "unchecked"})
+final class OrInThreadsTest {
+
+    @Test
+    void allFalse() {
+        new Assertion<>(
+            "Must be false when each item is false",
+            new OrInThreads(new False(), new False(), new False()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void oneTrue() {
+        new Assertion<>(
+            "Must be true when one item is true",
+            new OrInThreads(new False(), new True(), new False()),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void emptyIterable() {
+        new Assertion<>(
+            "Must be false for empty iterable",
+            new OrInThreads(new IterableOf<Scalar<Boolean>>()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void worksWithFunc() {
+        new Assertion<>(
+            "Must be true when the function is true for one item",
+            new OrInThreads(input -> input > 0, -1, 1, 0),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void worksWithProc() {
+        final List<Integer> list = new Synced<>(new ListOf<>());
+        new Assertion<>(
+            "Must be false when every item is processed",
+            new OrInThreads(
+                new ThreadPerTask(),
+                new ProcNoNulls<Integer>(list::add),
+                new ListOf<>(1, 2)
+            ),
+            new HasValue<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must process every item",
+            list,
+            new IsIterableContainingInAnyOrder<>(
+                new ListOf<>(new IsEqual<>(1), new IsEqual<>(2))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void cancelsRemainingItemsOnTrue() throws Exception {
+        final ExecutorService svc = new ThreadPerTask();
+        new Assertion<>(
+            "Must be true without waiting for the slow item",
+            new OrInThreads(
+                svc,
+                () -> {
+                    new CountDownLatch(1).await();
+                    return false;
+                },
+                new True()
+            ),
+            new HasValue<>(true)
+        ).affirm();
+        svc.shutdown();
+        new Assertion<>(
+            "Must interrupt the slow item",
+            svc.awaitTermination(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void throwsExceptionOfFailedItem() {
+        new Assertion<>(
+            "Must throw the exception of the failed item",
+            new OrInThreads(
+                new ThreadPerTask(),
+                new False(),
+            () -> {
+                throw new IOException("or failed");
+            }
+            ),
+            new Throws<>("or failed", IOException.class)
+        ).affirm();
+    }
+}
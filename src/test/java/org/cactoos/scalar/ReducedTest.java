@@ -25,8 +25,11 @@ package org.cactoos.scalar;
 
 import java.util.Collections;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
 import org.cactoos.Scalar;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.RangeOf;
 import org.junit.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
@@ -128,4 +131,24 @@ public final class ReducedTest {
             new HasValue<>("OneTwoThree")
         ).affirm();
     }
+
+    @Test
+    public void reducesInParallel() {
+        new Assertion<>(
+            "Must reduce in parallel",
+            new Reduced<Long>(
+                ForkJoinPool.commonPool(),
+                Long::sum,
+                new Mapped<>(x -> () -> x, new RangeOf<>(1L, 10_000L, x -> x + 1))
+            ),
+            new HasValue<>(50_005_000L)
+        ).affirm();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void failsReducingEmptyInParallel() throws Exception {
+        new Reduced<Long>(
+            ForkJoinPool.commonPool(), Long::sum, Collections.emptyList()
+        ).value();
+    }
 }
@@ -23,14 +23,18 @@
  */
 package org.cactoos.scalar;
 
+import java.io.IOException;
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Scalar;
 import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNull;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
 import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link Solid}.
@@ -72,4 +76,52 @@ final class SolidTest {
         ).affirm();
     }
 
+    @Test
+    void cachesNull() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Object> scalar = new Solid<>(
+            () -> {
+                calls.incrementAndGet();
+                return null;
+            }
+        );
+        scalar.value();
+        new Assertion<>(
+            "must return null",
+            scalar.value(),
+            new IsNull<>()
+        ).affirm();
+        new Assertion<>(
+            "must compute null only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void cachesFailure() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Solid<>(
+            () -> {
+                calls.incrementAndGet();
+                throw new IOException("broken");
+            }
+        );
+        new Assertion<>(
+            "must throw original exception",
+            scalar::value,
+            new Throws<>("broken", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "must throw it again",
+            scalar::value,
+            new Throws<>("broken", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "must compute failure only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
 }
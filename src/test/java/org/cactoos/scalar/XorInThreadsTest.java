@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.experimental.ThreadPerTask;
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link XorInThreads}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("unchecked")
+final class XorInThreadsTest {
+
+    @Test
+    void oddNumberOfTrue() {
+        new Assertion<>(
+            "Must be true for odd number of true items",
+            new XorInThreads(new True(), new True(), new True()),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void evenNumberOfTrue() {
+        new Assertion<>(
+            "Must be false for even number of true items",
+            new XorInThreads(new True(), new False(), new True()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void emptyIterable() {
+        new Assertion<>(
+            "Must be false for empty iterable",
+            new XorInThreads(new IterableOf<Scalar<Boolean>>()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void cancelsRemainingItemsOnFailure() throws Exception {
+        final ExecutorService svc = new ThreadPerTask();
+        new Assertion<>(
+            "Must fail when an item fails",
+            new XorInThreads(
+                svc,
+                () -> {
+                    new CountDownLatch(1).await();
+                    return true;
+                },
+                () -> {
+                    throw new IllegalStateException("broken");
+                }
+            ),
+            new Throws<>("broken", IllegalStateException.class)
+        ).affirm();
+        svc.shutdown();
+        new Assertion<>(
+            "Must interrupt the slow item",
+            svc.awaitTermination(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void throwsCheckedExceptionOfFailedItem() {
+        new Assertion<>(
+            "Must throw the checked exception of the failed item",
+            new XorInThreads(
+                new ThreadPerTask(),
+                new True(),
+            () -> {
+                throw new IOException("xor failed");
+            }
+            ),
+            new Throws<>("xor failed", IOException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.StringReader;
+import org.cactoos.Text;
+import org.cactoos.io.InputOf;
+import org.cactoos.iterable.Mapped;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+
+/**
+ * Test case for {@link Lines}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class LinesTest {
+
+    @Test
+    void readsLinesOfInput() {
+        new Assertion<>(
+            "Must read all lines of the input",
+            new Mapped<>(Text::asString, new Lines(new InputOf("a\nbb\r\nccc"))),
+            new HasValues<>("a", "bb", "ccc")
+        ).affirm();
+    }
+
+    @Test
+    void readsInputAgain() {
+        final Lines lines = new Lines(new InputOf("x\ny"));
+        lines.iterator().next();
+        new Assertion<>(
+            "Must read the input from the start every time",
+            lines.iterator().next().toString(),
+            new IsEqual<>("x")
+        ).affirm();
+    }
+
+    @Test
+    void readsLinesOfReader() {
+        int count = 0;
+        for (final Text line : new Lines(new StringReader("1\n2\n3\n"))) {
+            count += Integer.parseInt(line.toString());
+        }
+        new Assertion<>(
+            "Must read all lines of the reader",
+            count,
+            new IsEqual<>(6)
+        ).affirm();
+    }
+}
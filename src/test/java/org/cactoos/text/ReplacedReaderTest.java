@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ReplacedReader}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ReplacedReaderTest {
+
+    @Test
+    void replacesAllOccurrences() {
+        new Assertion<>(
+            "Must replace every occurrence, from left to right",
+            new TextOf(
+                new ReplacedReader(
+                    new StringReader("aaa cat aa cat a"), "aa", "b"
+                )
+            ),
+            new IsText("ba cat b cat a")
+        ).affirm();
+    }
+
+    @Test
+    void replacesAcrossChunks() {
+        final String text = new Repeated("-", (16 << 10) - 2)
+            .toString().concat("needle--needle");
+        new Assertion<>(
+            "Must replace an occurrence split between chunks",
+            new TextOf(
+                new ReplacedReader(new StringReader(text), "needle", "pin")
+            ),
+            new IsText(text.replace("needle", "pin"))
+        ).affirm();
+    }
+
+    @Test
+    void keepsPartialMatchAtEnd() {
+        new Assertion<>(
+            "Must keep the end which only starts like the target",
+            new TextOf(
+                new ReplacedReader(new StringReader("one nee"), "needle", "x")
+            ),
+            new IsText("one nee")
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyTarget() {
+        new Assertion<>(
+            "Must not replace an empty string",
+            () -> new ReplacedReader(new StringReader("a"), "", "b"),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
@@ -26,6 +26,7 @@ package org.cactoos.text;
 import java.nio.charset.StandardCharsets;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasString;
@@ -189,4 +190,35 @@ final class ReplacedTest {
             new HasString("3 3 GHI1JKL")
         ).affirm();
     }
+
+    @Test
+    void replacesLikeString() throws Exception {
+        final String text = "a.b-c.d a-b";
+        final String[][] cases = {
+            {"-", "+"},
+            {"\\.", "\\$"},
+            {"a", "[$0]"},
+            {"(a)\\.(b)", "$2$1"},
+            {"(?<first>\\w)-", "${first}="},
+            {"b", "\\\\"},
+            {"x", "y"},
+            {"-(\\w)", "$10"},
+        };
+        for (final String[] pair : cases) {
+            new Assertion<>(
+                String.format("Must replace '%s' with '%s' like String", pair[0], pair[1]),
+                new Replaced(new TextOf(text), pair[0], pair[1]).asString(),
+                new IsEqual<>(text.replaceAll(pair[0], pair[1]))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void rejectsIllegalGroupReference() {
+        new Assertion<>(
+            "Must reject a reference to a missing group",
+            () -> new Replaced(new TextOf("abc"), "b", "$x").asString(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
 }
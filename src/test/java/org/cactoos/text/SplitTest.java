@@ -23,11 +23,15 @@
  */
 package org.cactoos.text;
 
+import java.util.Iterator;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
 
 /**
  * Test case for {@link Split}.
@@ -132,4 +136,49 @@ final class SplitTest {
             )
         ).affirm();
     }
+
+    @Test
+    void splitsLikeString() throws Exception {
+        final String[] texts = {
+            "", ",", ",,a,,b,,", "a,b", "a", "a.b..c.", " x  y ", "ab",
+        };
+        final String[] regexes = {",", "\\.", ".", "", "\\s*", ",|\\.", ", ?"};
+        for (final String text : texts) {
+            for (final String regex : regexes) {
+                for (int limit = -1; limit < 4; ++limit) {
+                    new Assertion<>(
+                        String.format(
+                            "Must split '%s' by '%s' with limit %d like String",
+                            text, regex, limit
+                        ),
+                        new ListOf<>(
+                            new Mapped<>(Text::asString, new Split(text, regex, limit))
+                        ),
+                        new IsEqual<>(new ListOf<>(text.split(regex, limit)))
+                    ).affirm();
+                }
+            }
+        }
+    }
+
+    @Test
+    void splitsByLiteral() throws Exception {
+        new Assertion<>(
+            "Must split by a literal delimiter",
+            new Mapped<>(Text::asString, new Split("a::b:c::::", "::")),
+            new HasValues<>("a", "b:c")
+        ).affirm();
+    }
+
+    @Test
+    void readsFirstTokensOnly() throws Exception {
+        final Iterator<Text> tokens = new Split(
+            new Repeated("field;", 100_000), ";"
+        ).iterator();
+        new Assertion<>(
+            "Must read first tokens without splitting the rest",
+            new IterableOf<>(tokens.next(), tokens.next()),
+            new IsEqual<>(new IterableOf<>(new TextOf("field"), new TextOf("field")))
+        ).affirm();
+    }
 }
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import org.cactoos.Text;
 import org.cactoos.io.InputOf;
 import org.cactoos.iterable.IterableOfChars;
 import org.cactoos.iterator.IteratorOfChars;
@@ -35,6 +36,7 @@ import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.hamcrest.core.IsNull;
+import org.hamcrest.core.IsSame;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.EndsWith;
@@ -52,6 +54,28 @@ import org.llorllale.cactoos.matchers.StartsWith;
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.AvoidDuplicateLiterals", "unchecked"})
 final class TextOfTest {
 
+    @Test
+    void returnsSameString() throws Exception {
+        final String str = "Hello, друг!";
+        new Assertion<>(
+            "Must return the string itself, without transcoding it",
+            new TextOf(str).asString(),
+            new IsSame<>(str)
+        ).affirm();
+    }
+
+    @Test
+    void readsMutableCharSequence() throws Exception {
+        final StringBuilder str = new StringBuilder("one");
+        final Text text = new TextOf((CharSequence) str);
+        str.append(" two");
+        new Assertion<>(
+            "Must read the current content of the char sequence",
+            text,
+            new IsText("one two")
+        ).affirm();
+    }
+
     @Test
     void readsInputIntoText() {
         new Assertion<>(
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link TrimmedReader}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class TrimmedReaderTest {
+
+    @Test
+    void trimsBothEnds() {
+        new Assertion<>(
+            "Must remove whitespace at both ends only",
+            new TextOf(
+                new TrimmedReader(new StringReader(" \t one \n two \r\n "))
+            ),
+            new IsText("one \n two")
+        ).affirm();
+    }
+
+    @Test
+    void trimsAcrossChunks() {
+        final String text = new Repeated(" ", 20_000).toString()
+            .concat("a").concat(new Repeated(" ", 20_000).toString())
+            .concat("b").concat(new Repeated(" ", 20_000).toString());
+        new Assertion<>(
+            "Must trim whitespace spanning several chunks",
+            new TextOf(new TrimmedReader(new StringReader(text))),
+            new IsText(text.trim())
+        ).affirm();
+    }
+
+    @Test
+    void trimsBlankReader() {
+        new Assertion<>(
+            "Must trim a reader of whitespace only to nothing",
+            new TextOf(new TrimmedReader(new StringReader("  \n "))),
+            new IsText("")
+        ).affirm();
+    }
+}